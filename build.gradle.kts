@@ -1,5 +1,6 @@
 plugins {
     id("java")
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.flameshine"
@@ -11,4 +12,19 @@ repositories {
 
 dependencies {
     implementation("com.google.guava:guava:32.1.3-jre")
+}
+
+tasks.withType<JavaCompile>().configureEach {
+    options.compilerArgs.add("--add-modules=jdk.incubator.vector")
+}
+
+tasks.withType<JavaExec>().configureEach {
+    jvmArgs("--add-modules=jdk.incubator.vector")
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    jvmArgsAppend.add("--add-modules=jdk.incubator.vector")
+    profilers.add("gc")
+    resultFormat.set("JSON")
 }
\ No newline at end of file
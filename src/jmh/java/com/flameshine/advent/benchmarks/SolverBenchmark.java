@@ -0,0 +1,108 @@
+package com.flameshine.advent.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.flameshine.advent.days.Days;
+import com.flameshine.advent.generators.InputGenerators;
+import com.flameshine.advent.solver.Solver;
+import com.flameshine.advent.util.InputSource;
+
+/**
+ * Measures the parse phase and both parts of every day separately; parts always run against a model parsed once per trial.
+ *
+ * Run with `./gradlew jmh`; the build enables the GC profiler, so every result also reports allocation rate and GC counts.
+ * Single days and inputs can be selected with JMH's parameters when running the benchmark jar directly, e.g.
+ * `-p day=Day03 -p size=1048576,1073741824` to probe how a day scales on generated inputs,
+ * or `-p day=Day03 -p engine=LABEL_GRID,BANDED,STREAMING,BITBOARD` to compare the modes of a day against each other.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SolverBenchmark {
+
+    private static final long SEED = 2023;
+
+    @Param({ "Day01", "Day02", "Day03", "Day04", "Day05", "Day06", "Day07", "Day08", "Day09", "Day10" })
+    private String day;
+
+    /**
+     * Path of the input file to run against; empty selects the puzzle input bundled with the day.
+     */
+    @Param({ "" })
+    private String input;
+
+    /**
+     * Size in bytes of a generated input to run against instead; zero disables generation.
+     */
+    @Param({ "0" })
+    private long size;
+
+    /**
+     * Mode to construct the day with (Day01.Scan, Day03.Engine or Day04.Engine); empty keeps the default.
+     */
+    @Param({ "" })
+    private String engine;
+
+    private Solver<Object> solver;
+    private InputSource source;
+    private Object parsed;
+    private Path generated;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() throws IOException {
+
+        solver = (Solver<Object>) Days.byName(day, engine);
+
+        if (size > 0) {
+            generated = InputGenerators.forDay(day).generate(Files.createTempFile(day, ".txt"), size, SEED);
+            source = InputSource.ofPath(generated);
+        } else {
+            source = input.isEmpty() ? solver.input() : InputSource.ofPath(Path.of(input));
+        }
+
+        parsed = solver.parse(source);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (generated != null) {
+            Files.delete(generated);
+        }
+    }
+
+    @Benchmark
+    public Object parse() {
+        return solver.parse(source);
+    }
+
+    @Benchmark
+    public Object part1() {
+        return solver.part1(parsed);
+    }
+
+    @Benchmark
+    public Object part2() {
+        return solver.part2(parsed);
+    }
+}
\ No newline at end of file
@@ -1,9 +1,19 @@
 package com.flameshine.advent.days;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 
-import com.flameshine.advent.util.IOUtils;
-import com.flameshine.advent.util.ParsingUtils;
+import com.flameshine.advent.solver.Solver;
+import com.flameshine.advent.solver.SolverRunner;
+import com.flameshine.advent.util.ByteLine;
+import com.flameshine.advent.util.DigitPairScanner;
+import com.flameshine.advent.util.InputSource;
+import com.flameshine.advent.util.ParallelLineReader;
 
 /**
  * Day 1: Trebuchet?!
@@ -22,7 +32,7 @@ import com.flameshine.advent.util.ParsingUtils;
  * It looks like some of the digits are actually spelled out with letters: one, two, three, four, five, six, seven, eight, and nine also count as valid "digits".
  * Equipped with this new information, you now need to find the real first and last digit on each line.
  */
-public class Day01 {
+public class Day01 implements Solver<Day01.CalibrationSums> {
 
     private static final Map<String, Integer> DIGITS = Map.of(
         "one", 1,
@@ -36,134 +46,325 @@ public class Day01 {
         "nine", 9
     );
 
-    public static void main(String... args) {
+    private static final DigitAutomaton SPELLED_DIGITS = new DigitAutomaton(DIGITS);
+    private static final DigitAutomaton REVERSED_SPELLED_DIGITS = new DigitAutomaton(reverseKeys(DIGITS));
 
-        var lines = IOUtils.readAllLines(Day01.class.getResource("day01/calibration_values.txt"));
+    private static final Collector<ByteLine, CalibrationAccumulator, CalibrationSums> CALIBRATION_SUMS = Collector.of(
+        () -> new CalibrationAccumulator(Scan.BIDIRECTIONAL),
+        CalibrationAccumulator::accept,
+        CalibrationAccumulator::merge,
+        CalibrationAccumulator::sums
+    );
 
-        // Part 1
+    private final Scan scan;
 
-        System.out.println(
-            lines.stream().map(Day01::extractCalibrationValuesWithNumericDigitsOnly).mapToInt(Integer::intValue).sum()
-        );
+    public Day01() {
+        this(Scan.BIDIRECTIONAL);
+    }
 
-        // Part 2
+    public Day01(Scan scan) {
+        this.scan = scan;
+    }
 
-        System.out.println(
-            lines.stream().map(Day01::extractCalibrationValuesWithAlphabeticDigits).mapToInt(Integer::intValue).sum()
-        );
+    public static void main(String... args) {
+        SolverRunner.run(new Day01(), args);
     }
 
-    private static int extractCalibrationValuesWithNumericDigitsOnly(String s) {
+    @Override
+    public InputSource input() {
+        return InputSource.ofResource(Day01.class, "day01/calibration_values.txt");
+    }
 
-        var leftNumericDigit = Integer.MAX_VALUE;
-        var leftNumericDigitIndex = Integer.MAX_VALUE;
+    /**
+     * Both parts only need the first and the last digit of every line, so a single pass over the input answers both.
+     */
+    @Override
+    public CalibrationSums parse(InputSource source) {
 
-        for (var entry : DIGITS.entrySet()) {
-            var value = entry.getValue();
-            var index = s.indexOf(String.valueOf(value));
-            if (index != -1 && leftNumericDigitIndex > index) {
-                leftNumericDigit = value;
-                leftNumericDigitIndex = index;
-            }
+        if (scan == Scan.VECTOR) {
+            return parseWithDigitPairScanner(source);
         }
 
-        var rightNumericDigit = Integer.MAX_VALUE;
-        var rightNumericDigitIndex = Integer.MIN_VALUE;
+        if (scan == Scan.PARALLEL) {
+            return ParallelLineReader.collect(source, CALIBRATION_SUMS);
+        }
 
-        for (var entry : DIGITS.entrySet()) {
-            var value = entry.getValue();
-            var index = s.lastIndexOf(String.valueOf(value));
-            if (index != -1 && leftNumericDigitIndex < index && rightNumericDigitIndex < index) {
-                rightNumericDigit = value;
-                rightNumericDigitIndex = index;
-            }
+        var accumulator = new CalibrationAccumulator(scan);
+        source.forEachLine(accumulator::accept);
+        return accumulator.sums();
+    }
+
+    @Override
+    public Long part1(CalibrationSums sums) {
+        return sums.numericDigitsOnly();
+    }
+
+    @Override
+    public Long part2(CalibrationSums sums) {
+        return sums.alphabeticDigits();
+    }
+
+    private static CalibrationSums parseWithDigitPairScanner(InputSource source) {
+
+        var scanner = DigitPairScanner.best();
+        var accumulator = new CalibrationAccumulator(Scan.VECTOR);
+
+        source.forEachBlock(block -> scanner.scan(
+            block,
+            (lineStart, lineEnd, firstDigit, lastDigit) -> accumulator.accept(block, lineStart, lineEnd, firstDigit, lastDigit)
+        ));
+
+        return accumulator.sums();
+    }
+
+    private static Map<String, Integer> reverseKeys(Map<String, Integer> words) {
+        return words.entrySet().stream()
+            .collect(Collectors.toUnmodifiableMap(e -> new StringBuilder(e.getKey()).reverse().toString(), Map.Entry::getValue));
+    }
+
+    public enum Scan {
+
+        /**
+         * Reads every line once from left to right.
+         */
+        SINGLE_PASS,
+
+        /**
+         * Reads every line from both ends and stops at the first numeric digit on each side, so the cost of a line
+         * depends on how far its outermost digits are from the ends rather than on its length.
+         */
+        BIDIRECTIONAL,
+
+        /**
+         * Finds the first and last numeric digit of every line with {@link DigitPairScanner#best()}, which uses SIMD when
+         * the Vector API is enabled, so the spelled-digit automata only read the letters in front of the first digit and
+         * behind the last one.
+         */
+        VECTOR,
+
+        /**
+         * Reads from both ends on every core: a file input is cut into newline-aligned chunks that are summed on
+         * the common fork-join pool and merged at the end; other inputs fall back to a sequential fold.
+         */
+        PARALLEL
+    }
+
+    record CalibrationSums(
+        long numericDigitsOnly,
+        long alphabeticDigits
+    ) {}
+
+    private static final class CalibrationAccumulator {
+
+        private final Scan scan;
+
+        private long numericDigitsOnly;
+        private long alphabeticDigits;
+
+        CalibrationAccumulator(Scan scan) {
+            this.scan = scan;
         }
 
-        if (rightNumericDigit == Integer.MAX_VALUE) {
-            if (leftNumericDigit == Integer.MAX_VALUE) {
-                rightNumericDigit = Integer.MIN_VALUE;
-            } else {
-                rightNumericDigit = leftNumericDigit;
+        void accept(CharSequence line) {
+            switch (scan) {
+                case SINGLE_PASS -> acceptInSinglePass(line);
+                case BIDIRECTIONAL, VECTOR, PARALLEL -> acceptFromBothEnds(line);
             }
         }
 
-        var result = String.valueOf(leftNumericDigit) + rightNumericDigit;
+        private void acceptInSinglePass(CharSequence line) {
 
-        return ParsingUtils.parseInt(result);
-    }
+            var firstNumeric = 0;
+            var lastNumeric = 0;
+            var first = 0;
+            var last = 0;
+            var state = DigitAutomaton.ROOT;
 
-    private static int extractCalibrationValuesWithAlphabeticDigits(String s) {
+            for (var i = 0; i < line.length(); i++) {
 
-        var leftAlphabeticDigit = Integer.MAX_VALUE;
-        var leftAlphabeticDigitIndex = Integer.MAX_VALUE;
+                var c = line.charAt(i);
 
-        for (var entry : DIGITS.entrySet()) {
-            var index = s.indexOf(entry.getKey());
-            if (index != -1 && leftAlphabeticDigitIndex > index) {
-                leftAlphabeticDigit = entry.getValue();
-                leftAlphabeticDigitIndex = index;
+                if (c >= '1' && c <= '9') {
+                    var digit = c - '0';
+                    if (firstNumeric == 0) {
+                        firstNumeric = digit;
+                    }
+                    if (first == 0) {
+                        first = digit;
+                    }
+                    lastNumeric = digit;
+                    last = digit;
+                    state = DigitAutomaton.ROOT;
+                    continue;
+                }
+
+                state = SPELLED_DIGITS.next(state, c);
+
+                var digit = SPELLED_DIGITS.output(state);
+
+                if (digit != 0) {
+                    if (first == 0) {
+                        first = digit;
+                    }
+                    last = digit;
+                }
             }
+
+            numericDigitsOnly += firstNumeric * 10 + lastNumeric;
+            alphabeticDigits += first * 10 + last;
         }
 
-        var rightAlphabeticDigit = Integer.MAX_VALUE;
-        var rightAlphabeticDigitIndex = Integer.MIN_VALUE;
+        private void acceptFromBothEnds(CharSequence line) {
+
+            var firstNumeric = 0;
+            var first = 0;
+            var state = DigitAutomaton.ROOT;
 
-        for (var entry : DIGITS.entrySet()) {
-            var index = s.lastIndexOf(entry.getKey());
-            if (index != -1 && leftAlphabeticDigitIndex < index && rightAlphabeticDigitIndex < index) {
-                rightAlphabeticDigit = entry.getValue();
-                rightAlphabeticDigitIndex = index;
+            // A spelled digit can only come first if it ends before the first numeric one, so scanning stops there.
+            for (var i = 0; i < line.length() && firstNumeric == 0; i++) {
+                var c = line.charAt(i);
+                if (c >= '1' && c <= '9') {
+                    firstNumeric = c - '0';
+                } else {
+                    state = SPELLED_DIGITS.next(state, c);
+                }
+                if (first == 0) {
+                    first = firstNumeric != 0 ? firstNumeric : SPELLED_DIGITS.output(state);
+                }
             }
-        }
 
-        if (rightAlphabeticDigit == Integer.MAX_VALUE) {
-            if (leftAlphabeticDigit == Integer.MAX_VALUE) {
-                rightAlphabeticDigit = Integer.MIN_VALUE;
-                rightAlphabeticDigitIndex = Integer.MIN_VALUE;
-            } else {
-                rightAlphabeticDigit = leftAlphabeticDigit;
-                rightAlphabeticDigitIndex = leftAlphabeticDigitIndex;
+            var lastNumeric = 0;
+            var last = 0;
+
+            state = DigitAutomaton.ROOT;
+
+            for (var i = line.length() - 1; i >= 0 && lastNumeric == 0; i--) {
+                var c = line.charAt(i);
+                if (c >= '1' && c <= '9') {
+                    lastNumeric = c - '0';
+                } else {
+                    state = REVERSED_SPELLED_DIGITS.next(state, c);
+                }
+                if (last == 0) {
+                    last = lastNumeric != 0 ? lastNumeric : REVERSED_SPELLED_DIGITS.output(state);
+                }
             }
+
+            numericDigitsOnly += firstNumeric * 10 + lastNumeric;
+            alphabeticDigits += first * 10 + last;
         }
 
-        var leftNumericDigit = Integer.MAX_VALUE;
-        var leftNumericDigitIndex = Integer.MAX_VALUE;
+        /**
+         * Takes a line whose numeric digits were already located; a spelled digit can only come first if it lies
+         * before firstDigit and last if it lies after lastDigit, so only those two stretches are read.
+         */
+        void accept(ByteBuffer block, int lineStart, int lineEnd, int firstDigit, int lastDigit) {
 
-        for (var entry : DIGITS.entrySet()) {
-            var value = entry.getValue();
-            var index = s.indexOf(String.valueOf(value));
-            if (index != -1 && leftNumericDigitIndex > index) {
-                leftNumericDigit = value;
-                leftNumericDigitIndex = index;
+            var firstNumeric = firstDigit < 0 ? 0 : block.get(firstDigit) - '0';
+            var lastNumeric = lastDigit < 0 ? 0 : block.get(lastDigit) - '0';
+            var first = 0;
+            var last = 0;
+            var state = DigitAutomaton.ROOT;
+
+            for (var i = lineStart; i < (firstDigit < 0 ? lineEnd : firstDigit) && first == 0; i++) {
+                state = SPELLED_DIGITS.next(state, (char) (block.get(i) & 0xFF));
+                first = SPELLED_DIGITS.output(state);
             }
-        }
 
-        var rightNumericDigit = Integer.MAX_VALUE;
-        var rightNumericDigitIndex = Integer.MIN_VALUE;
+            state = DigitAutomaton.ROOT;
 
-        for (var entry : DIGITS.entrySet()) {
-            var value = entry.getValue();
-            var index = s.lastIndexOf(String.valueOf(value));
-            if (index != -1 && leftNumericDigitIndex < index && rightNumericDigitIndex < index) {
-                rightNumericDigit = value;
-                rightNumericDigitIndex = index;
+            for (var i = lineEnd - 1; i > (lastDigit < 0 ? lineStart - 1 : lastDigit) && last == 0; i--) {
+                state = REVERSED_SPELLED_DIGITS.next(state, (char) (block.get(i) & 0xFF));
+                last = REVERSED_SPELLED_DIGITS.output(state);
             }
+
+            numericDigitsOnly += firstNumeric * 10 + lastNumeric;
+            alphabeticDigits += (first != 0 ? first : firstNumeric) * 10 + (last != 0 ? last : lastNumeric);
+        }
+
+        CalibrationAccumulator merge(CalibrationAccumulator other) {
+            numericDigitsOnly += other.numericDigitsOnly;
+            alphabeticDigits += other.alphabeticDigits;
+            return this;
+        }
+
+        CalibrationSums sums() {
+            return new CalibrationSums(numericDigitsOnly, alphabeticDigits);
         }
+    }
 
-        if (rightNumericDigit == Integer.MAX_VALUE) {
-            if (leftNumericDigit == Integer.MAX_VALUE) {
-                rightNumericDigit = Integer.MIN_VALUE;
-                rightNumericDigitIndex = Integer.MIN_VALUE;
-            } else {
-                rightNumericDigit = leftNumericDigit;
-                rightNumericDigitIndex = leftNumericDigitIndex;
+    /**
+     * Aho-Corasick automaton over the spelled-out digits, compiled into a complete transition table over 'a'..'z'.
+     * Every other character leads back to the root. Since no digit word contains another one, the word that ends
+     * first is also the one that starts first, so the first and last outputs of a scan are the first and last digits.
+     */
+    private static final class DigitAutomaton {
+
+        private static final int ROOT = 0;
+        private static final int ALPHABET = 26;
+
+        private final int[] transitions;
+        private final int[] outputs;
+
+        DigitAutomaton(Map<String, Integer> words) {
+
+            List<int[]> trie = new ArrayList<>();
+            List<Integer> trieOutputs = new ArrayList<>();
+
+            trie.add(new int[ALPHABET]);
+            trieOutputs.add(0);
+
+            for (var word : words.entrySet()) {
+                var state = ROOT;
+                for (var c : word.getKey().toCharArray()) {
+                    var letter = c - 'a';
+                    if (trie.get(state)[letter] == ROOT) {
+                        trie.get(state)[letter] = trie.size();
+                        trie.add(new int[ALPHABET]);
+                        trieOutputs.add(0);
+                    }
+                    state = trie.get(state)[letter];
+                }
+                trieOutputs.set(state, word.getValue());
+            }
+
+            var states = trie.size();
+            var failures = new int[states];
+
+            this.transitions = new int[states * ALPHABET];
+            this.outputs = new int[states];
+
+            // Breadth-first, so that the failure state of every state is complete before the state itself is filled in.
+            var queue = new ArrayDeque<Integer>();
+            queue.add(ROOT);
+
+            while (!queue.isEmpty()) {
+
+                var state = queue.poll();
+                var output = trieOutputs.get(state);
+
+                outputs[state] = output != 0 ? output : outputs[failures[state]];
+
+                for (var letter = 0; letter < ALPHABET; letter++) {
+                    var child = trie.get(state)[letter];
+                    if (child != ROOT) {
+                        failures[child] = state == ROOT ? ROOT : transitions[failures[state] * ALPHABET + letter];
+                        transitions[state * ALPHABET + letter] = child;
+                        queue.add(child);
+                    } else {
+                        transitions[state * ALPHABET + letter] = state == ROOT ? ROOT : transitions[failures[state] * ALPHABET + letter];
+                    }
+                }
             }
         }
 
-        var first = leftAlphabeticDigitIndex < leftNumericDigitIndex ? leftAlphabeticDigit : leftNumericDigit;
-        var second = rightAlphabeticDigitIndex > rightNumericDigitIndex ? rightAlphabeticDigit : rightNumericDigit;
-        var result = String.valueOf(first) + second;
+        int next(int state, char c) {
+            var letter = c - 'a';
+            return letter >= 0 && letter < ALPHABET ? transitions[state * ALPHABET + letter] : ROOT;
+        }
 
-        return ParsingUtils.parseInt(result);
+        int output(int state) {
+            return outputs[state];
+        }
     }
 }
\ No newline at end of file
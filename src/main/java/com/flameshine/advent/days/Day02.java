@@ -1,13 +1,18 @@
 package com.flameshine.advent.days;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.regex.Pattern;
+import java.util.Arrays;
+import java.util.stream.Collector;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 
-import com.flameshine.advent.util.IOUtils;
-import com.flameshine.advent.util.ParsingUtils;
+import com.flameshine.advent.solver.Solver;
+import com.flameshine.advent.solver.SolverRunner;
+import com.flameshine.advent.util.ByteLine;
+import com.flameshine.advent.util.InputSource;
+import com.flameshine.advent.util.NumberCursor;
+import com.flameshine.advent.util.ParallelLineReader;
 
 /**
  * Day 2: Cube Conundrum
@@ -74,106 +79,273 @@ import com.flameshine.advent.util.ParsingUtils;
  * For each game, find the minimum set of cubes that must have been present.
  * What is the sum of the power of these sets?
  */
-public class Day02 {
+public class Day02 implements Solver<Day02.GameTable> {
 
-    private static final Pattern GAME_ID_PATTERN = Pattern.compile("\\d+");
-    private static final Pattern CUBE_CONFIGURATION_PATTERN = Pattern.compile("(\\d+) (\\w+)");
+    private static final Collector<ByteLine, GameTableBuilder, GameTable> GAME_TABLE = Collector.of(
+        GameTableBuilder::new,
+        GameTableBuilder::accept,
+        GameTableBuilder::merge,
+        GameTableBuilder::build
+    );
+
+    private final Bag bag;
+
+    public Day02() {
+        this(new Bag(12, 13, 14));
+    }
+
+    public Day02(Bag bag) {
+        this.bag = bag;
+    }
 
     public static void main(String... args) {
+        SolverRunner.run(new Day02(), args);
+    }
 
-        var lines = IOUtils.readAllLines(Day02.class.getResource("day02/games.txt"));
-        var games = lines.stream().map(Day02::parseGame).toList();
+    @Override
+    public InputSource input() {
+        return InputSource.ofResource(Day02.class, "day02/games.txt");
+    }
 
-        // Part 1
+    @Override
+    public GameTable parse(InputSource source) {
+        return ParallelLineReader.collect(source, GAME_TABLE);
+    }
 
-        System.out.println(
-            games.stream().filter(Game::isPossible).map(Game::id).mapToInt(Integer::intValue).sum()
-        );
+    @Override
+    public Long part1(GameTable games) {
+        return games.sumOfPossibleIds(bag);
+    }
 
-        // Part 2
+    @Override
+    public Long part2(GameTable games) {
 
-        System.out.println(
-            games.stream().map(g -> calculatePowerOfRequiredCubes(g.configurations())).mapToInt(Integer::intValue).sum()
-        );
+        var result = 0L;
+
+        // A color that was never shown counts as a single cube, as it always did.
+        for (var i = 0; i < games.size(); i++) {
+            result += (long) Math.max(games.maxRed[i], 1) * Math.max(games.maxGreen[i], 1) * Math.max(games.maxBlue[i], 1);
+        }
+
+        return result;
     }
 
-    private static Game parseGame(String game) {
+    /**
+     * Reads "Game <id>: <count> <color>, ...; ..." in one pass: every number after the id is a cube count,
+     * and the first letter of the word behind it tells the color.
+     */
+    private static void parseGame(NumberCursor cursor, CharSequence game, GameTableBuilder builder) {
+
+        var id = cursor.nextInt();
+        var maxRed = 0;
+        var maxGreen = 0;
+        var maxBlue = 0;
 
-        var gameId = extractGameId(game);
-        var gameIdSeparatorIndex = game.indexOf(":");
-        var sets = game.substring(gameIdSeparatorIndex + 2).split("; ");
+        while (cursor.hasNext()) {
 
-        List<CubeConfiguration> configurations = new ArrayList<>();
+            var count = cursor.nextInt();
+            var colorIndex = cursor.position() + 1;
 
-        for (var set : sets) {
-            var configurationStrings = set.split(", ");
-            for (var configurationString : configurationStrings) {
-                var cubeConfiguration = buildCubeConfiguration(configurationString);
-                configurations.add(cubeConfiguration);
+            Preconditions.checkState(colorIndex < game.length(), "Cube count without a color in: %s", game);
+
+            switch (game.charAt(colorIndex)) {
+                case 'r' -> maxRed = Math.max(maxRed, count);
+                case 'g' -> maxGreen = Math.max(maxGreen, count);
+                case 'b' -> maxBlue = Math.max(maxBlue, count);
+                default -> throw new IllegalStateException("Unknown cube color in: " + game);
             }
         }
 
-        return new Game(gameId, configurations);
+        builder.add(id, maxRed, maxGreen, maxBlue);
     }
 
-    private static int calculatePowerOfRequiredCubes(List<CubeConfiguration> configurations) {
-        var maximumRed = calculateRequiredCubeCountByColor(configurations, ColorConfiguration.RED);
-        var maximumGreen = calculateRequiredCubeCountByColor(configurations, ColorConfiguration.GREEN);
-        var maximumBlue = calculateRequiredCubeCountByColor(configurations, ColorConfiguration.BLUE);
-        return maximumRed * maximumGreen * maximumBlue;
-    }
+    /**
+     * The largest number of cubes of each color the bag holds.
+     */
+    public record Bag(int red, int green, int blue) {}
 
-    private static int extractGameId(String game) {
-        var matcher = GAME_ID_PATTERN.matcher(game);
-        Preconditions.checkState(matcher.find());
-        var groupIdAsString = matcher.group(0);
-        return ParsingUtils.parseInt(groupIdAsString);
-    }
+    /**
+     * The games as parallel columns. The first {@link #sumOfPossibleIds(Bag)} call builds an index over them that
+     * answers the same question for any other bag without looking at the games again.
+     */
+    public static final class GameTable {
+
+        // 8 MB of prefix sums; tables with more distinct (red, green, blue) combinations are scanned instead.
+        private static final long MAX_INDEX_CELLS = 1L << 20;
 
-    private static CubeConfiguration buildCubeConfiguration(String cubeConfiguration) {
+        private final int size;
+        private final int[] ids;
+        private final int[] maxRed;
+        private final int[] maxGreen;
+        private final int[] maxBlue;
 
-        var matcher = CUBE_CONFIGURATION_PATTERN.matcher(cubeConfiguration);
+        private final Supplier<PossibleIdIndex> index = Suppliers.memoize(this::buildIndex);
 
-        Preconditions.checkState(matcher.find());
+        private GameTable(int size, int[] ids, int[] maxRed, int[] maxGreen, int[] maxBlue) {
+            this.size = size;
+            this.ids = ids;
+            this.maxRed = maxRed;
+            this.maxGreen = maxGreen;
+            this.maxBlue = maxBlue;
+        }
 
-        var countAsString = matcher.group(1);
-        var count = ParsingUtils.parseInt(countAsString);
-        var color = matcher.group(2);
-        var colorConfiguration = ColorConfiguration.valueOf(color.toUpperCase());
+        public int size() {
+            return size;
+        }
 
-        return new CubeConfiguration(count, colorConfiguration);
-    }
+        /**
+         * Answered from the index in O(log n) once it exists. When the distinct red, green and blue maxima span more
+         * than 2^20 combinations, no index is built and every call scans all games in O(n).
+         */
+        public long sumOfPossibleIds(Bag bag) {
+            var possibleIds = index.get();
+            return possibleIds != null ? possibleIds.sum(bag) : scanPossibleIds(bag);
+        }
+
+        private PossibleIdIndex buildIndex() {
+
+            var reds = distinctSorted(maxRed, size);
+            var greens = distinctSorted(maxGreen, size);
+            var blues = distinctSorted(maxBlue, size);
+
+            var cells = (long) reds.length * greens.length * blues.length;
+
+            if (cells > MAX_INDEX_CELLS) {
+                return null;
+            }
+
+            var index = new PossibleIdIndex(reds, greens, blues, new long[(int) cells]);
+
+            for (var i = 0; i < size; i++) {
+                index.add(maxRed[i], maxGreen[i], maxBlue[i], ids[i]);
+            }
+
+            index.accumulate();
+
+            return index;
+        }
+
+        private long scanPossibleIds(Bag bag) {
+
+            var result = 0L;
 
-    private static int calculateRequiredCubeCountByColor(List<CubeConfiguration> configurations, ColorConfiguration colorConfiguration) {
-        return configurations.stream()
-            .filter(c -> colorConfiguration == c.colorConfiguration())
-            .map(CubeConfiguration::count)
-            .max(Integer::compareTo)
-            .orElse(1);
+            for (var i = 0; i < size; i++) {
+                if (maxRed[i] <= bag.red() && maxGreen[i] <= bag.green() && maxBlue[i] <= bag.blue()) {
+                    result += ids[i];
+                }
+            }
+
+            return result;
+        }
+
+        private static int[] distinctSorted(int[] values, int size) {
+            return Arrays.stream(values, 0, size).distinct().sorted().toArray();
+        }
     }
 
-    private record Game(int id, List<CubeConfiguration> configurations) {
-        public boolean isPossible() {
-            return configurations.stream().allMatch(c -> c.count() <= c.colorConfiguration().limit());
+    /**
+     * Games are put into the cell of their compressed (red, green, blue) maxima, then the cube is turned into
+     * prefix sums along all three axes, so a cell holds the ids of every game that is dominated by its coordinates.
+     */
+    private record PossibleIdIndex(int[] reds, int[] greens, int[] blues, long[] sums) {
+
+        void add(int red, int green, int blue, int id) {
+            sums[cell(Arrays.binarySearch(reds, red), Arrays.binarySearch(greens, green), Arrays.binarySearch(blues, blue))] += id;
+        }
+
+        void accumulate() {
+
+            for (var red = 0; red < reds.length; red++) {
+                for (var green = 0; green < greens.length; green++) {
+                    for (var blue = 1; blue < blues.length; blue++) {
+                        sums[cell(red, green, blue)] += sums[cell(red, green, blue - 1)];
+                    }
+                }
+            }
+
+            for (var red = 0; red < reds.length; red++) {
+                for (var green = 1; green < greens.length; green++) {
+                    for (var blue = 0; blue < blues.length; blue++) {
+                        sums[cell(red, green, blue)] += sums[cell(red, green - 1, blue)];
+                    }
+                }
+            }
+
+            for (var red = 1; red < reds.length; red++) {
+                for (var green = 0; green < greens.length; green++) {
+                    for (var blue = 0; blue < blues.length; blue++) {
+                        sums[cell(red, green, blue)] += sums[cell(red - 1, green, blue)];
+                    }
+                }
+            }
+        }
+
+        long sum(Bag bag) {
+
+            var red = floorIndex(reds, bag.red());
+            var green = floorIndex(greens, bag.green());
+            var blue = floorIndex(blues, bag.blue());
+
+            if (red < 0 || green < 0 || blue < 0) {
+                return 0;
+            }
+
+            return sums[cell(red, green, blue)];
+        }
+
+        private int cell(int red, int green, int blue) {
+            return (red * greens.length + green) * blues.length + blue;
+        }
+
+        // Index of the greatest value that is not above the limit, or -1 when every value is.
+        private static int floorIndex(int[] sorted, int limit) {
+            var index = Arrays.binarySearch(sorted, limit);
+            return index >= 0 ? index : -index - 2;
         }
     }
 
-    private record CubeConfiguration(int count, ColorConfiguration colorConfiguration) {}
+    private static final class GameTableBuilder {
+
+        private final NumberCursor cursor = new NumberCursor();
 
-    private enum ColorConfiguration {
+        private int size;
+        private int[] ids = new int[16];
+        private int[] maxRed = new int[16];
+        private int[] maxGreen = new int[16];
+        private int[] maxBlue = new int[16];
 
-        RED(12),
-        GREEN(13),
-        BLUE(14);
+        void add(int id, int red, int green, int blue) {
 
-        private final int limit;
+            if (size == ids.length) {
+                var capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                maxRed = Arrays.copyOf(maxRed, capacity);
+                maxGreen = Arrays.copyOf(maxGreen, capacity);
+                maxBlue = Arrays.copyOf(maxBlue, capacity);
+            }
+
+            ids[size] = id;
+            maxRed[size] = red;
+            maxGreen[size] = green;
+            maxBlue[size] = blue;
+            size++;
+        }
+
+        void accept(CharSequence game) {
+            parseGame(cursor.reset(game), game, this);
+        }
+
+        GameTableBuilder merge(GameTableBuilder other) {
+
+            for (var i = 0; i < other.size; i++) {
+                add(other.ids[i], other.maxRed[i], other.maxGreen[i], other.maxBlue[i]);
+            }
 
-        ColorConfiguration(int limit) {
-            this.limit = limit;
+            return this;
         }
 
-        public int limit() {
-            return limit;
+        GameTable build() {
+            return new GameTable(size, ids, maxRed, maxGreen, maxBlue);
         }
     }
 }
\ No newline at end of file
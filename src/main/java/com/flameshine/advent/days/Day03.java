@@ -1,10 +1,12 @@
 package com.flameshine.advent.days;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
-import com.flameshine.advent.util.IOUtils;
+import com.flameshine.advent.solver.Solver;
+import com.flameshine.advent.solver.SolverRunner;
+import com.flameshine.advent.util.InputSource;
 import com.flameshine.advent.util.ParsingUtils;
 
 /**
@@ -76,164 +78,611 @@ import com.flameshine.advent.util.ParsingUtils;
  * Adding up all of the gear ratios produces 467835.
  * What is the sum of all of the gear ratios in your engine schematic?
  */
-public class Day03 {
+public class Day03 implements Solver<Day03.Schematic> {
 
-    private static final char[][] SCHEMATIC;
+    private final Engine engine;
 
-    private static int rows;
-    private static int columns;
+    public Day03() {
+        this(Engine.LABEL_GRID);
+    }
+
+    public Day03(Engine engine) {
+        this.engine = engine;
+    }
+
+    public static void main(String... args) {
+        SolverRunner.run(new Day03(), args);
+    }
 
-    static {
+    @Override
+    public InputSource input() {
+        return InputSource.ofResource(Day03.class, "day03/schematic.txt");
+    }
+
+    @Override
+    public Schematic parse(InputSource source) {
+        return switch (engine) {
+            case LABEL_GRID -> LabelGrid.of(readGrid(source));
+            case BANDED -> new BandedSchematic(readGrid(source));
+            case STREAMING -> streamSchematic(source);
+            case BITBOARD -> BitboardSchematic.of(readGrid(source));
+        };
+    }
 
-        var lines = IOUtils.readAllLines(Day03.class.getResource("day03/schematic.txt"));
+    @Override
+    public Long part1(Schematic schematic) {
+        return schematic.partNumberSum();
+    }
+
+    @Override
+    public Long part2(Schematic schematic) {
+        return schematic.gearRatioSum();
+    }
 
-        SCHEMATIC = lines.stream().map(String::toCharArray)
+    private static char[][] readGrid(InputSource source) {
+        return source.readAllLines().stream()
+            .map(String::toCharArray)
             .toArray(char[][]::new);
     }
 
-    public static void main(String... args) {
+    private static Schematic streamSchematic(InputSource source) {
+        var window = new SchematicWindow();
+        source.forEachLine(window::accept);
+        return window.finish();
+    }
+
+    private static long sumPartNumbers(char[][] grid, int fromRow, int toRow) {
+
+        var result = 0L;
+
+        for (var i = fromRow; i < toRow; i++) {
+
+            var row = grid[i];
 
-        rows = SCHEMATIC.length;
-        columns = SCHEMATIC[0].length;
+            for (var j = 0; j < row.length; j++) {
 
-        var schematicNumbers = extractSchematicNumbers();
+                if (!ParsingUtils.isDigit(row[j])) {
+                    continue;
+                }
 
-        // Part 1
+                var start = j;
+                var value = 0;
 
-        var partNumberSum = 0;
+                for (; j < row.length && ParsingUtils.isDigit(row[j]); j++) {
+                    value = value * 10 + row[j] - '0';
+                }
 
-        for (var number : schematicNumbers) {
-            if (hasAdjacentSymbol(number)) {
-                partNumberSum += number.value();
+                if (hasAdjacentSymbol(grid, i, start - 1, j)) {
+                    result += value;
+                }
             }
         }
 
-        System.out.println(partNumberSum);
+        return result;
+    }
 
-        // Part 2
+    private static boolean hasAdjacentSymbol(char[][] grid, int row, int fromColumn, int toColumn) {
 
-        var gearRatioSum = 0;
+        for (var i = Math.max(row - 1, 0); i <= Math.min(row + 1, grid.length - 1); i++) {
+            for (var j = Math.max(fromColumn, 0); j <= Math.min(toColumn, grid[i].length - 1); j++) {
+                if (isSymbolExcludingDot(grid[i][j])) {
+                    return true;
+                }
+            }
+        }
 
-        for (var i = 0; i < rows; i++) {
-            for (var j = 0; j < columns; j++) {
-                if (SCHEMATIC[i][j] == '*') {
-                    var adjacentNumbers = getAdjacent(i, j, schematicNumbers);
-                    if (adjacentNumbers.size() == 2) {
-                        var gearRatio = adjacentNumbers.stream()
-                            .map(SchematicNumber::value)
-                            .reduce((a, b) -> a * b)
-                            .orElse(0);
-                        gearRatioSum += gearRatio;
-                    }
+        return false;
+    }
+
+    private static long sumGearRatios(char[][] grid, int fromRow, int toRow) {
+
+        var result = 0L;
+
+        for (var i = fromRow; i < toRow; i++) {
+            for (var j = 0; j < grid[i].length; j++) {
+                if (grid[i][j] == '*') {
+                    result += gearRatio(grid, i, j);
                 }
             }
         }
 
-        System.out.println(gearRatioSum);
+        return result;
     }
 
-    private static List<SchematicNumber> extractSchematicNumbers() {
+    // A new number starts in the 3x3 window wherever a digit has no digit to its left inside the window.
+    private static long gearRatio(char[][] grid, int row, int column) {
 
-        List<SchematicNumber> resultBuilder = new ArrayList<>();
+        var count = 0;
+        var ratio = 1L;
 
-        for (var i = 0; i < rows; i++) {
-            for (var j = 0; j < columns; j++) {
+        for (var i = Math.max(row - 1, 0); i <= Math.min(row + 1, grid.length - 1); i++) {
 
-                var numberBuilder = new StringBuilder();
-                var numberStartIndex = j;
+            var from = Math.max(column - 1, 0);
+            var to = Math.min(column + 1, grid[i].length - 1);
 
-                while (j != columns && Character.isDigit(SCHEMATIC[i][j])) {
-                    numberBuilder.append(SCHEMATIC[i][j++]);
+            for (var j = from; j <= to; j++) {
+                if (ParsingUtils.isDigit(grid[i][j]) && (j == from || !ParsingUtils.isDigit(grid[i][j - 1]))) {
+                    count++;
+                    ratio *= numberAt(grid[i], j);
                 }
+            }
+        }
 
-                if (numberBuilder.isEmpty()) {
-                    continue;
+        return count == 2 ? ratio : 0;
+    }
+
+    private static int numberAt(char[] row, int column) {
+
+        var start = column;
+
+        while (start > 0 && ParsingUtils.isDigit(row[start - 1])) {
+            start--;
+        }
+
+        var value = 0;
+
+        for (var j = start; j < row.length && ParsingUtils.isDigit(row[j]); j++) {
+            value = value * 10 + row[j] - '0';
+        }
+
+        return value;
+    }
+
+    private static boolean isSymbolExcludingDot(char c) {
+        return !Character.isLetterOrDigit(c) && c != '.';
+    }
+
+    public enum Engine {
+
+        /**
+         * Labels every cell with the number covering it and looks up the neighbours of each symbol.
+         */
+        LABEL_GRID,
+
+        /**
+         * Splits the rows into bands that are summed on the common fork-join pool.
+         */
+        BANDED,
+
+        /**
+         * Reads the input line by line and only keeps a window of three rows.
+         */
+        STREAMING,
+
+        /**
+         * Keeps symbols, digits and stars as per-row bit masks and tests adjacency 64 cells at a time.
+         */
+        BITBOARD
+    }
+
+    interface Schematic {
+
+        long partNumberSum();
+
+        long gearRatioSum();
+    }
+
+    /**
+     * The schematic with every cell labelled by the id of the number covering it (0 for none), so the numbers around
+     * a symbol are found by looking at its eight neighbours rather than by searching all numbers.
+     */
+    private record LabelGrid(
+        char[][] grid,
+        int columns,
+        int[] labels,
+        int[] values
+    ) implements Schematic {
+
+        static LabelGrid of(char[][] grid) {
+
+            var rows = grid.length;
+            var columns = rows == 0 ? 0 : grid[0].length;
+            var labels = new int[rows * columns];
+            var values = new int[16];
+            var id = 0;
+
+            for (var i = 0; i < rows; i++) {
+                for (var j = 0; j < columns; j++) {
+
+                    if (!ParsingUtils.isDigit(grid[i][j])) {
+                        continue;
+                    }
+
+                    if (++id == values.length) {
+                        values = Arrays.copyOf(values, values.length * 2);
+                    }
+
+                    var value = 0;
+
+                    for (; j < columns && ParsingUtils.isDigit(grid[i][j]); j++) {
+                        value = value * 10 + grid[i][j] - '0';
+                        labels[i * columns + j] = id;
+                    }
+
+                    values[id] = value;
                 }
+            }
 
-                var number = ParsingUtils.parseInt(numberBuilder.toString());
+            return new LabelGrid(grid, columns, labels, Arrays.copyOf(values, id + 1));
+        }
 
-                resultBuilder.add(
-                    new SchematicNumber(numberStartIndex, j, i, number)
-                );
+        @Override
+        public long partNumberSum() {
+
+            var counted = new boolean[values.length];
+            var adjacent = new int[8];
+            var result = 0L;
+
+            for (var i = 0; i < grid.length; i++) {
+                for (var j = 0; j < columns; j++) {
+                    if (isSymbolExcludingDot(grid[i][j])) {
+                        var count = collectAdjacentNumbers(i, j, adjacent);
+                        for (var k = 0; k < count; k++) {
+                            if (!counted[adjacent[k]]) {
+                                counted[adjacent[k]] = true;
+                                result += values[adjacent[k]];
+                            }
+                        }
+                    }
+                }
             }
+
+            return result;
         }
 
-        return Collections.unmodifiableList(resultBuilder);
-    }
+        @Override
+        public long gearRatioSum() {
+
+            var adjacent = new int[8];
+            var result = 0L;
+
+            for (var i = 0; i < grid.length; i++) {
+                for (var j = 0; j < columns; j++) {
+                    if (grid[i][j] == '*' && collectAdjacentNumbers(i, j, adjacent) == 2) {
+                        result += (long) values[adjacent[0]] * values[adjacent[1]];
+                    }
+                }
+            }
 
-    private static boolean hasAdjacentSymbol(SchematicNumber schematicNumber) {
+            return result;
+        }
 
-        var schematicNumberRow = schematicNumber.row();
+        /**
+         * Stores the distinct ids of the numbers touching the cell in resultBuilder and returns how many there are.
+         */
+        private int collectAdjacentNumbers(int row, int column, int[] resultBuilder) {
 
-        for (var i = schematicNumber.columnRangeStart(); i < schematicNumber.columnRangeEnd(); i++) {
+            var count = 0;
 
-            for (var direction : new int[][] {{ -1, 0 }, { 1, 0 }, { 0, -1 }, { 0, 1 }}) {
-                var x = schematicNumberRow + direction[0];
-                var y = i + direction[1];
-                if (x >= 0 && x < rows && y >= 0 && y < columns && isSymbolExcludingDot(SCHEMATIC[x][y])) {
-                    return true;
+            for (var i = Math.max(row - 1, 0); i <= Math.min(row + 1, grid.length - 1); i++) {
+                for (var j = Math.max(column - 1, 0); j <= Math.min(column + 1, columns - 1); j++) {
+                    var id = labels[i * columns + j];
+                    if (id != 0 && !contains(resultBuilder, count, id)) {
+                        resultBuilder[count++] = id;
+                    }
                 }
             }
 
-            for (var direction : new int[][] {{ -1, -1 }, { -1, 1 }, { 1, -1 }, { 1, 1 }}) {
-                var x = schematicNumberRow + direction[0];
-                var y = i + direction[1];
-                if (x >= 0 && x < rows && y >= 0 && y < columns && isSymbolExcludingDot(SCHEMATIC[x][y])) {
+            return count;
+        }
+
+        private static boolean contains(int[] ids, int count, int id) {
+
+            for (var i = 0; i < count; i++) {
+                if (ids[i] == id) {
                     return true;
                 }
             }
+
+            return false;
         }
+    }
 
-        return false;
+    /**
+     * Sums the schematic band by band on the common fork-join pool.
+     * A band owns the numbers and the gears whose row lies inside it, so nothing is counted twice,
+     * and it only reads one halo row above and below itself to see their neighbours.
+     */
+    private record BandedSchematic(char[][] grid) implements Schematic {
+
+        private static final int BANDS_PER_THREAD = 4;
+        private static final int MIN_BAND_ROWS = 64;
+
+        @Override
+        public long partNumberSum() {
+            return sumBands((fromRow, toRow) -> sumPartNumbers(grid, fromRow, toRow));
+        }
+
+        @Override
+        public long gearRatioSum() {
+            return sumBands((fromRow, toRow) -> sumGearRatios(grid, fromRow, toRow));
+        }
+
+        private long sumBands(BandReducer reducer) {
+            var pool = ForkJoinPool.commonPool();
+            var bandRows = Math.max(MIN_BAND_ROWS, Math.ceilDiv(grid.length, pool.getParallelism() * BANDS_PER_THREAD));
+            return pool.invoke(new BandTask(reducer, 0, grid.length, bandRows));
+        }
     }
 
-    private static boolean isSymbolExcludingDot(char c) {
-        return !Character.isLetterOrDigit(c) && c != '.';
+    /**
+     * Streams the schematic through a ring of three rows. A row is summed as soon as the row below it arrives
+     * (or the input ends), which is when both of its neighbours are known; only the rows still needed are kept.
+     */
+    private static final class SchematicWindow {
+
+        private static final int SIZE = 3;
+
+        private final char[][] rows = new char[SIZE][];
+
+        private int count;
+        private long partNumberSum;
+        private long gearRatioSum;
+
+        void accept(CharSequence line) {
+
+            var slot = count % SIZE;
+            var row = rows[slot] != null && rows[slot].length == line.length() ? rows[slot] : new char[line.length()];
+
+            for (var i = 0; i < row.length; i++) {
+                row[i] = line.charAt(i);
+            }
+
+            rows[slot] = row;
+
+            if (++count > 1) {
+                sumRow(count - 2);
+            }
+        }
+
+        SchematicSums finish() {
+
+            if (count > 0) {
+                sumRow(count - 1);
+            }
+
+            return new SchematicSums(partNumberSum, gearRatioSum);
+        }
+
+        private void sumRow(int row) {
+
+            var from = Math.max(row - 1, 0);
+            var to = Math.min(row + 1, count - 1);
+            var window = new char[to - from + 1][];
+
+            for (var i = from; i <= to; i++) {
+                window[i - from] = rows[i % SIZE];
+            }
+
+            partNumberSum += sumPartNumbers(window, row - from, row - from + 1);
+            gearRatioSum += sumGearRatios(window, row - from, row - from + 1);
+        }
     }
 
-    private static List<SchematicNumber> getAdjacent(int row, int column, List<SchematicNumber> schematicNumbers) {
+    private record SchematicSums(long partNumberSum, long gearRatioSum) implements Schematic {}
+
+    /**
+     * Every row is a run of 64-bit words in which bit j % 64 of word j / 64 stands for column j.
+     * The symbols of a row and its two neighbours are OR-ed together and dilated by one column with shifts,
+     * so a number is a part number exactly when its digit run intersects that mask.
+     * Around a '*', the three digit bits of each neighbouring row tell how many numbers touch it:
+     * none for 000, two for 101 and one for anything else.
+     */
+    private record BitboardSchematic(
+        char[][] grid,
+        int words,
+        long[] symbols,
+        long[] digits,
+        long[] stars
+    ) implements Schematic {
+
+        static BitboardSchematic of(char[][] grid) {
+
+            var width = 0;
+
+            for (var row : grid) {
+                width = Math.max(width, row.length);
+            }
+
+            var words = Math.ceilDiv(width, Long.SIZE);
+            var symbols = new long[grid.length * words];
+            var digits = new long[grid.length * words];
+            var stars = new long[grid.length * words];
+
+            for (var i = 0; i < grid.length; i++) {
+                for (var j = 0; j < grid[i].length; j++) {
+
+                    var c = grid[i][j];
+                    var index = i * words + (j >>> 6);
+                    var bit = 1L << j;
+
+                    if (ParsingUtils.isDigit(c)) {
+                        digits[index] |= bit;
+                    } else if (isSymbolExcludingDot(c)) {
+                        symbols[index] |= bit;
+                        if (c == '*') {
+                            stars[index] |= bit;
+                        }
+                    }
+                }
+            }
+
+            return new BitboardSchematic(grid, words, symbols, digits, stars);
+        }
+
+        @Override
+        public long partNumberSum() {
+
+            var around = new long[words];
+            var adjacentDigits = new long[words];
+            var result = 0L;
+
+            for (var i = 0; i < grid.length; i++) {
+
+                var offset = i * words;
+
+                for (var w = 0; w < words; w++) {
+                    around[w] = symbols[offset + w]
+                        | (i > 0 ? symbols[offset - words + w] : 0)
+                        | (i + 1 < grid.length ? symbols[offset + words + w] : 0);
+                }
+
+                for (var w = 0; w < words; w++) {
+                    var dilated = around[w]
+                        | around[w] << 1 | (w > 0 ? around[w - 1] >>> 63 : 0)
+                        | around[w] >>> 1 | (w + 1 < words ? around[w + 1] << 63 : 0);
+                    adjacentDigits[w] = dilated & digits[offset + w];
+                }
+
+                for (var w = 0; w < words; w++) {
+
+                    var runStarts = digits[offset + w] & ~(digits[offset + w] << 1 | (w > 0 ? digits[offset + w - 1] >>> 63 : 0));
+
+                    for (; runStarts != 0; runStarts &= runStarts - 1) {
+
+                        var start = (w << 6) + Long.numberOfTrailingZeros(runStarts);
+                        var end = runEnd(offset, start);
+
+                        if (anyBit(adjacentDigits, 0, start, end)) {
+                            result += numberAt(grid[i], start);
+                        }
+                    }
+                }
+            }
 
-        List<SchematicNumber> resultBuilder = new ArrayList<>();
+            return result;
+        }
 
-        for (var number : schematicNumbers) {
+        @Override
+        public long gearRatioSum() {
 
-            SchematicNumber gearPart = null;
+            var result = 0L;
 
-            for (var direction : new int[][] {{ -1, 0 }, { 1, 0 }, { 0, -1 }, { 0, 1 }}) {
-                var x = row + direction[0];
-                var y = column + direction[1];
-                if (x >= 0 && x < rows && y >= 0 && y < columns && number.contains(x, y)) {
-                    gearPart = number;
-                    break;
+            for (var i = 0; i < grid.length; i++) {
+                for (var w = 0; w < words; w++) {
+                    for (var bits = stars[i * words + w]; bits != 0; bits &= bits - 1) {
+                        result += gearRatio(i, (w << 6) + Long.numberOfTrailingZeros(bits));
+                    }
                 }
             }
 
-            if (gearPart != null) {
-                resultBuilder.add(gearPart);
-                continue;
+            return result;
+        }
+
+        private long gearRatio(int row, int column) {
+
+            var count = 0;
+            var ratio = 1L;
+
+            for (var i = Math.max(row - 1, 0); i <= Math.min(row + 1, grid.length - 1) && count <= 2; i++) {
+                switch (digitPattern(i, column)) {
+                    case 0b000 -> {}
+                    case 0b101 -> {
+                        count += 2;
+                        ratio *= (long) numberAt(grid[i], column - 1) * numberAt(grid[i], column + 1);
+                    }
+                    case 0b100, 0b110, 0b111 -> {
+                        count++;
+                        ratio *= numberAt(grid[i], column - 1);
+                    }
+                    case 0b010, 0b011 -> {
+                        count++;
+                        ratio *= numberAt(grid[i], column);
+                    }
+                    default -> {
+                        count++;
+                        ratio *= numberAt(grid[i], column + 1);
+                    }
+                }
             }
 
-            for (var direction : new int[][] {{ -1, -1 }, { -1, 1 }, { 1, -1 }, { 1, 1 }}) {
-                var x = row + direction[0];
-                var y = column + direction[1];
-                if (x >= 0 && x < rows && y >= 0 && y < columns && number.contains(x, y)) {
-                    resultBuilder.add(number);
-                    break;
+            return count == 2 ? ratio : 0;
+        }
+
+        // Bits 2, 1 and 0 hold the digit flags of columns column - 1, column and column + 1.
+        private int digitPattern(int row, int column) {
+            var offset = row * words;
+            return (column > 0 && isSet(digits, offset, column - 1) ? 0b100 : 0)
+                | (isSet(digits, offset, column) ? 0b010 : 0)
+                | (column + 1 < words << 6 && isSet(digits, offset, column + 1) ? 0b001 : 0);
+        }
+
+        // The first column at or after start that is not a digit.
+        private int runEnd(int offset, int start) {
+
+            for (var w = start >>> 6; w < words; w++) {
+                var gaps = ~digits[offset + w] & (w == start >>> 6 ? -1L << start : -1L);
+                if (gaps != 0) {
+                    return (w << 6) + Long.numberOfTrailingZeros(gaps);
+                }
+            }
+
+            return words << 6;
+        }
+
+        private static boolean isSet(long[] mask, int offset, int column) {
+            return (mask[offset + (column >>> 6)] & 1L << column) != 0;
+        }
+
+        // Whether any of the columns [from, to) is set.
+        private static boolean anyBit(long[] mask, int offset, int from, int to) {
+
+            var last = to - 1;
+
+            for (var w = from >>> 6; w <= last >>> 6; w++) {
+
+                var bits = mask[offset + w];
+
+                if (w == from >>> 6) {
+                    bits &= -1L << from;
+                }
+
+                if (w == last >>> 6) {
+                    bits &= -1L >>> (63 - (last & 63));
+                }
+
+                if (bits != 0) {
+                    return true;
                 }
             }
+
+            return false;
         }
+    }
 
-        return Collections.unmodifiableList(resultBuilder);
+    @FunctionalInterface
+    private interface BandReducer {
+        long reduce(int fromRow, int toRow);
     }
 
-    private record SchematicNumber(
-        int columnRangeStart,
-        int columnRangeEnd,
-        int row,
-        int value
-    ) {
-        boolean contains(int rowIndex, int columnIndex) {
-            return rowIndex == row && columnIndex >= columnRangeStart && columnIndex < columnRangeEnd;
+    private static final class BandTask extends RecursiveTask<Long> {
+
+        private final BandReducer reducer;
+        private final int fromRow;
+        private final int toRow;
+        private final int bandRows;
+
+        private BandTask(BandReducer reducer, int fromRow, int toRow, int bandRows) {
+            this.reducer = reducer;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+            this.bandRows = bandRows;
+        }
+
+        @Override
+        protected Long compute() {
+
+            if (toRow - fromRow <= bandRows) {
+                return reducer.reduce(fromRow, toRow);
+            }
+
+            var middle = (fromRow + toRow) >>> 1;
+            var upper = new BandTask(reducer, fromRow, middle, bandRows);
+            var lower = new BandTask(reducer, middle, toRow, bandRows);
+
+            upper.fork();
+
+            return lower.compute() + upper.join();
         }
     }
 }
\ No newline at end of file
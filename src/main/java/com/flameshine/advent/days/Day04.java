@@ -1,18 +1,21 @@
 package com.flameshine.advent.days;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.stream.Collector;
 
 import com.google.common.base.Preconditions;
 
-import com.flameshine.advent.util.IOUtils;
-import com.flameshine.advent.util.ParsingUtils;
+import com.flameshine.advent.solver.Solver;
+import com.flameshine.advent.solver.SolverRunner;
+import com.flameshine.advent.util.ByteLine;
+import com.flameshine.advent.util.InputSource;
+import com.flameshine.advent.util.NumberCursor;
+import com.flameshine.advent.util.ParallelLineReader;
 
 /**
  * Day 4: Scratchcards
@@ -95,121 +98,369 @@ import com.flameshine.advent.util.ParsingUtils;
  * Process all of the original and copied scratchcards until no more scratchcards are won.
  * Including the original set of scratchcards, how many total scratchcards do you end up with?
  */
-public class Day04 {
+public class Day04 implements Solver<Day04.Scratchcards> {
 
-    private static final Pattern CARD_ID_PATTERN = Pattern.compile("\\d+");
+    private static final Collector<ByteLine, CardListBuilder, List<Card>> CARDS = Collector.of(
+        CardListBuilder::new,
+        CardListBuilder::accept,
+        CardListBuilder::merge,
+        CardListBuilder::build
+    );
 
-    public static void main(String... args) {
+    private final Engine engine;
 
-        var lines = IOUtils.readAllLines(Day04.class.getResource("day04/cards.txt"));
-        var cards = lines.stream().map(Day04::parseCard).toList();
+    public Day04() {
+        this(Engine.IN_MEMORY);
+    }
 
-        // Part 1
+    public Day04(Engine engine) {
+        this.engine = engine;
+    }
 
-        System.out.println(
-            calculateTotalPoints(cards)
-        );
+    public static void main(String... args) {
+        SolverRunner.run(new Day04(), args);
+    }
 
-        // Part 2
+    @Override
+    public InputSource input() {
+        return InputSource.ofResource(Day04.class, "day04/cards.txt");
+    }
 
-        System.out.println(
-            calculateTotalNumberOfCards(cards)
-        );
+    @Override
+    public Scratchcards parse(InputSource source) {
+        return switch (engine) {
+            case IN_MEMORY -> new CardList(ParallelLineReader.collect(source, CARDS));
+            case STREAMING -> streamCards(source);
+        };
     }
 
-    private static Card parseCard(String card) {
-        var cardId = extractCardId(card);
-        var cardIdSeparatorIndex = card.indexOf(":");
-        var numberSetsSeparatorIndex = card.indexOf("|");
-        var winningRawNumbers = card.substring(cardIdSeparatorIndex + 2, numberSetsSeparatorIndex).split("\\s");
-        var actualRawNumbers = card.substring(numberSetsSeparatorIndex + 2).split("\\s");
-        var winningNumbers = parseRawNumbers(winningRawNumbers);
-        var actualNumbers = parseRawNumbers(actualRawNumbers);
-        return new Card(cardId, winningNumbers, actualNumbers);
+    @Override
+    public Number part1(Scratchcards cards) {
+        return cards.totalPoints();
     }
 
-    private static int extractCardId(String card) {
-        var matcher = CARD_ID_PATTERN.matcher(card);
-        Preconditions.checkState(matcher.find());
-        var groupIdAsString = matcher.group(0);
-        return ParsingUtils.parseInt(groupIdAsString);
+    @Override
+    public Number part2(Scratchcards cards) {
+        return cards.totalCards();
     }
 
-    private static List<Integer> parseRawNumbers(String[] numbers) {
+    private static Scratchcards streamCards(InputSource source) {
+
+        var stream = new CardStream();
+        var cursor = new NumberCursor();
+
+        source.forEachLine(line -> stream.accept(parseCard(cursor, line)));
+
+        return stream.finish();
+    }
+
+    /**
+     * Both number lists are read into 128-bit sets (two longs each), so the match count is the popcount of their intersection.
+     */
+    private static Card parseCard(NumberCursor cursor, CharSequence card) {
+
+        var separatorIndex = indexOf(card, '|');
+
+        Preconditions.checkState(separatorIndex >= 0, "Card without a number separator: %s", card);
+
+        cursor.reset(card, 0, separatorIndex);
 
-        List<Integer> resultBuilder = new ArrayList<>(numbers.length);
+        var id = cursor.nextInt();
+        var winningLow = 0L;
+        var winningHigh = 0L;
 
-        for (var n : numbers) {
-            if (!n.isBlank()) {
-                var parsed = ParsingUtils.parseInt(
-                    n.replaceAll("\\s", "")
-                );
-                resultBuilder.add(parsed);
+        while (cursor.hasNext()) {
+            var number = nextCardNumber(cursor);
+            if (number < Long.SIZE) {
+                winningLow |= 1L << number;
+            } else {
+                winningHigh |= 1L << (number - Long.SIZE);
             }
         }
 
-        return Collections.unmodifiableList(resultBuilder);
+        cursor.reset(card, separatorIndex + 1, card.length());
+
+        var actualLow = 0L;
+        var actualHigh = 0L;
+
+        while (cursor.hasNext()) {
+            var number = nextCardNumber(cursor);
+            if (number < Long.SIZE) {
+                actualLow |= 1L << number;
+            } else {
+                actualHigh |= 1L << (number - Long.SIZE);
+            }
+        }
+
+        var matching = Long.bitCount(winningLow & actualLow) + Long.bitCount(winningHigh & actualHigh);
+
+        return new Card(id, matching);
+    }
+
+    private static int nextCardNumber(NumberCursor cursor) {
+        var number = cursor.nextInt();
+        Preconditions.checkState(number >= 0 && number < 2 * Long.SIZE, "Card number out of range: %s", number);
+        return number;
     }
 
-    private static int calculateTotalPoints(List<Card> cards) {
+    private static int indexOf(CharSequence s, char c) {
 
-        var result = 0;
+        for (var i = 0; i < s.length(); i++) {
+            if (s.charAt(i) == c) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * A card with m matches is worth 2^(m - 1) points and m can reach 128, so the total is kept in an exact long
+     * and recomputed with BigInteger once it overflows.
+     */
+    private static Number calculateTotalPoints(List<Card> cards) {
+        try {
+            return sumPoints(cards);
+        } catch (ArithmeticException e) {
+            return sumPointsExactly(cards);
+        }
+    }
+
+    private static long sumPoints(List<Card> cards) {
+
+        var result = 0L;
+
+        for (var card : cards) {
+            result = Math.addExact(result, calculatePoints(card.matching()));
+        }
+
+        return result;
+    }
+
+    private static BigInteger sumPointsExactly(List<Card> cards) {
+
+        var result = BigInteger.ZERO;
 
         for (var card : cards) {
-            var matching = getMatchingNumbersCount(card);
-            result += calculatePoints(matching);
+            if (card.matching() > 0) {
+                result = result.add(BigInteger.ONE.shiftLeft(card.matching() - 1));
+            }
         }
 
         return result;
     }
 
-    private static int calculatePoints(int matching) {
+    private static long calculatePoints(int matching) {
         return switch (matching) {
             case 0 -> 0;
             case 1 -> 1;
             default -> {
-                var result = 1;
+                var result = 1L;
                 for (var i = 0; i < matching - 1; i++) {
-                    result *= 2;
+                    result = Math.multiplyExact(result, 2);
                 }
                 yield result;
             }
         };
     }
 
-    private static int calculateTotalNumberOfCards(List<Card> cards) {
+    /**
+     * Walks the cards in id order with a difference array of pending copies: a card held c times adds c to the next
+     * matching cards by bumping the running total at the first of them and taking it back behind the last one.
+     * Copies never go past the end of the table.
+     */
+    private static Number calculateTotalNumberOfCards(List<Card> cards) {
+
+        var ordered = cards.stream().sorted(Comparator.comparingInt(Card::id)).toList();
+
+        try {
+            return countCards(ordered);
+        } catch (ArithmeticException e) {
+            return countCardsExactly(ordered);
+        }
+    }
+
+    private static long countCards(List<Card> cards) {
 
-        var cardMap = cards.stream()
-            .collect(Collectors.toUnmodifiableMap(Card::id, Function.identity()));
+        var size = cards.size();
+        var pending = new long[size + 1];
+        var copies = 0L;
+        var result = 0L;
 
-        Map<Integer, Integer> accumulativeCounter = new HashMap<>();
+        for (var i = 0; i < size; i++) {
 
-        for (var entry : cardMap.entrySet()) {
+            copies = Math.addExact(copies, pending[i]);
 
-            var id = entry.getKey();
-            var matching = getMatchingNumbersCount(entry.getValue());
+            var count = Math.addExact(copies, 1);
+            var last = Math.min(i + cards.get(i).matching(), size - 1);
 
-            accumulativeCounter.merge(id, 1, Integer::sum);
+            result = Math.addExact(result, count);
 
-            for (var i = 0; i < accumulativeCounter.get(id); i++) {
-                for (var j = id + 1; j <= id + matching; j++) {
-                    accumulativeCounter.merge(j, 1, Integer::sum);
-                }
+            if (last > i) {
+                pending[i + 1] = Math.addExact(pending[i + 1], count);
+                pending[last + 1] = Math.subtractExact(pending[last + 1], count);
+            }
+        }
+
+        return result;
+    }
+
+    private static BigInteger countCardsExactly(List<Card> cards) {
+
+        var size = cards.size();
+        var pending = new BigInteger[size + 1];
+        var copies = BigInteger.ZERO;
+        var result = BigInteger.ZERO;
+
+        Arrays.fill(pending, BigInteger.ZERO);
+
+        for (var i = 0; i < size; i++) {
+
+            copies = copies.add(pending[i]);
+
+            var count = copies.add(BigInteger.ONE);
+            var last = Math.min(i + cards.get(i).matching(), size - 1);
+
+            result = result.add(count);
+
+            if (last > i) {
+                pending[i + 1] = pending[i + 1].add(count);
+                pending[last + 1] = pending[last + 1].subtract(count);
             }
         }
 
-        return accumulativeCounter.values().stream().reduce(0, Integer::sum);
+        return result;
+    }
+
+    public enum Engine {
+
+        /**
+         * Keeps every card, so copies can be counted in id order whatever order the file lists them in.
+         */
+        IN_MEMORY,
+
+        /**
+         * Counts while reading and keeps nothing but the copies still owed to the next few cards;
+         * the file has to list the cards in id order.
+         */
+        STREAMING
     }
 
-    private static Integer getMatchingNumbersCount(Card card) {
-        var winning = new ArrayList<>(card.winning());
-        winning.retainAll(card.actual());
-        return winning.size();
+    interface Scratchcards {
+
+        Number totalPoints();
+
+        Number totalCards();
+    }
+
+    private record CardList(List<Card> cards) implements Scratchcards {
+
+        @Override
+        public Number totalPoints() {
+            return calculateTotalPoints(cards);
+        }
+
+        @Override
+        public Number totalCards() {
+            return calculateTotalNumberOfCards(cards);
+        }
+    }
+
+    private record CardTotals(Number totalPoints, Number totalCards) implements Scratchcards {}
+
+    /**
+     * Copies only go forward, by at most the largest match count seen so far, so the copies owed to upcoming cards
+     * fit into a ring buffer that is one slot longer than that; the slot of the current card is freed as it is read.
+     */
+    private static final class CardStream {
+
+        private long[] pending = new long[16];
+
+        private int index;
+        private int previousId = Integer.MIN_VALUE;
+        private long totalPoints;
+        private long totalCards;
+
+        void accept(Card card) {
+
+            Preconditions.checkState(card.id() > previousId, "Card %s follows card %s; streaming needs cards in id order", card.id(), previousId);
+
+            var matching = card.matching();
+
+            if (matching >= pending.length) {
+                grow(matching + 1);
+            }
+
+            var slot = index % pending.length;
+            var count = pending[slot] + 1;
+
+            pending[slot] = 0;
+
+            for (var i = 1; i <= matching; i++) {
+                var target = (index + i) % pending.length;
+                pending[target] = addExactly(pending[target], count);
+            }
+
+            totalPoints = addExactly(totalPoints, pointsExactly(matching));
+            totalCards = addExactly(totalCards, count);
+            previousId = card.id();
+            index++;
+        }
+
+        CardTotals finish() {
+            return new CardTotals(totalPoints, totalCards);
+        }
+
+        private void grow(int capacity) {
+
+            var resized = new long[Integer.highestOneBit(capacity) << 1];
+
+            for (var i = 0; i < pending.length; i++) {
+                resized[(index + i) % resized.length] = pending[(index + i) % pending.length];
+            }
+
+            pending = resized;
+        }
+
+        private static long addExactly(long a, long b) {
+            try {
+                return Math.addExact(a, b);
+            } catch (ArithmeticException e) {
+                throw exceeds64Bits(e);
+            }
+        }
+
+        private static long pointsExactly(int matching) {
+            try {
+                return calculatePoints(matching);
+            } catch (ArithmeticException e) {
+                throw exceeds64Bits(e);
+            }
+        }
+
+        private static IllegalStateException exceeds64Bits(ArithmeticException e) {
+            return new IllegalStateException("Card total exceeds 64 bits; the in-memory engine falls back to BigInteger", e);
+        }
+    }
+
+    private static final class CardListBuilder {
+
+        private final NumberCursor cursor = new NumberCursor();
+        private final List<Card> cards = new ArrayList<>();
+
+        void accept(CharSequence card) {
+            cards.add(parseCard(cursor, card));
+        }
+
+        CardListBuilder merge(CardListBuilder other) {
+            cards.addAll(other.cards);
+            return this;
+        }
+
+        List<Card> build() {
+            return Collections.unmodifiableList(cards);
+        }
     }
 
-    private record Card(
-        int id,
-        List<Integer> winning,
-        List<Integer> actual
-    ) {}
+    record Card(int id, int matching) {}
 }
\ No newline at end of file
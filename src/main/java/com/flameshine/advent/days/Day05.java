@@ -1,21 +1,18 @@
 package com.flameshine.advent.days;
 
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.UncheckedIOException;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Scanner;
-import java.util.Set;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
-import com.flameshine.advent.util.ParsingUtils;
+import com.google.common.base.Preconditions;
+
+import com.flameshine.advent.events.SeedRangeEvent;
+import com.flameshine.advent.solver.Solver;
+import com.flameshine.advent.solver.SolverRunner;
+import com.flameshine.advent.util.InputSource;
+import com.flameshine.advent.util.NumberCursor;
 
 /**
  * Day 5: If You Give A Seed A Fertilizer
@@ -141,7 +138,7 @@ import com.flameshine.advent.util.ParsingUtils;
  * Consider all of the initial seed numbers listed in the ranges on the first line of the almanac.
  * What is the lowest location number that corresponds to any of the initial seed numbers?
  */
-public class Day05 {
+public class Day05 implements Solver<Day05.Almanac> {
 
     private static final List<MappingDescriptor> DESTINATION_DESCRIPTORS = List.of(
         new MappingDescriptor(Category.SEED, Category.SOIL),
@@ -153,143 +150,305 @@ public class Day05 {
         new MappingDescriptor(Category.HUMIDITY, Category.LOCATION)
     );
 
-    public static void main(String... args) throws ExecutionException, InterruptedException {
+    public static void main(String... args) {
+        SolverRunner.run(new Day05(), args);
+    }
 
-        List<Long> seeds = new ArrayList<>();
-        Map<Long, Long> seedRanges = new HashMap<>();
-        List<AlmanacEntry> entries = new ArrayList<>();
-
-        try (var scanner = new Scanner(new File(Objects.requireNonNull(Day05.class.getResource("day05/almanac.txt")).getPath()))) {
-
-            if (scanner.hasNextLine()) {
-                var seedsLine = scanner.nextLine();
-                var seedsAsString = seedsLine.split(" ");
-                for (var i = 1; i < seedsAsString.length; i += 2) {
-                    var firstSeedItem = ParsingUtils.parseLong(seedsAsString[i]);
-                    var secondSeedItem = ParsingUtils.parseLong(seedsAsString[i + 1]);
-                    seeds.add(firstSeedItem);
-                    seeds.add(secondSeedItem);
-                    seedRanges.put(firstSeedItem, firstSeedItem + secondSeedItem);
-                }
-            }
+    @Override
+    public InputSource input() {
+        return InputSource.ofResource(Day05.class, "day05/almanac.txt");
+    }
 
-            scanner.nextLine();
-
-            for (var destination : DESTINATION_DESCRIPTORS) {
-                scanner.nextLine();
-                while (scanner.hasNextLine()) {
-                    var line = scanner.nextLine();
-                    if (line.isBlank()) {
-                        break;
-                    }
-                    var entry = buildEntry(destination, line);
-                    entries.add(entry);
-                }
+    @Override
+    public Almanac parse(InputSource source) {
+
+        List<Long> seeds = new ArrayList<>();
+        List<SeedRange> seedRanges = new ArrayList<>();
+        List<MappingLayer> layers = new ArrayList<>();
+
+        var lines = source.readAllLines().iterator();
+
+        if (lines.hasNext()) {
+            var cursor = new NumberCursor(lines.next());
+            while (cursor.hasNext()) {
+                var firstSeedItem = cursor.nextLong();
+                var secondSeedItem = cursor.nextLong();
+                seeds.add(firstSeedItem);
+                seeds.add(secondSeedItem);
+                seedRanges.add(new SeedRange(firstSeedItem, secondSeedItem));
             }
-        } catch (FileNotFoundException e) {
-            throw new UncheckedIOException(e);
         }
 
-        // Part 1
+        lines.next();
 
-        System.out.println(
-            findMinimumLocationForListedSeeds(seeds, entries)
-        );
+        for (var destination : DESTINATION_DESCRIPTORS) {
 
-        // Part 2
+            List<AlmanacEntry> entries = new ArrayList<>();
 
-        System.out.println(
-            findMinimumLocationForSeedRanges(seedRanges, entries)
+            lines.next();
+
+            while (lines.hasNext()) {
+                var line = lines.next();
+                if (line.isBlank()) {
+                    break;
+                }
+                entries.add(buildEntry(line));
+            }
+
+            layers.add(MappingLayer.of(destination, entries));
+        }
+
+        return new Almanac(
+            Collections.unmodifiableList(seeds),
+            Collections.unmodifiableList(seedRanges),
+            SeedLocationTable.compose(layers)
         );
     }
 
-    private static Long findMinimumLocationForListedSeeds(List<Long> seeds, List<AlmanacEntry> entries) {
+    @Override
+    public Long part1(Almanac almanac) {
 
         var min = Long.MAX_VALUE;
 
-        for (var seed : seeds) {
-            Set<MappingDescriptor> processed = new HashSet<>();
-            for (var entry : entries) {
-                var descriptor = entry.mappingDescriptor();
-                if (!processed.contains(descriptor) && entry.contains(seed)) {
-                    seed = entry.map(seed);
-                    processed.add(descriptor);
-                }
-            }
-            min = Math.min(min, seed);
+        for (var seed : almanac.seeds()) {
+            min = Math.min(min, almanac.locations().locate(seed));
         }
 
         return min;
     }
 
-    private static Long findMinimumLocationForSeedRanges(Map<Long, Long> seedRanges, List<AlmanacEntry> entries) throws ExecutionException, InterruptedException {
-
-        List<Future<Long>> futures = new ArrayList<>();
+    @Override
+    public Long part2(Almanac almanac) {
 
-        try (var executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors())) {
+        var min = Long.MAX_VALUE;
 
-            for (var seedRange : seedRanges.entrySet()) {
+        for (var seedRange : almanac.seedRanges()) {
 
-                var future = executorService.submit(() -> {
-                    var location = Long.MAX_VALUE;
-                    for (var i = seedRange.getKey(); i < seedRange.getValue(); i++) {
-                        Set<MappingDescriptor> processed = new HashSet<>();
-                        var seed = i;
-                        for (var entry : entries) {
-                            var descriptor = entry.mappingDescriptor();
-                            if (!processed.contains(descriptor) && entry.contains(seed)) {
-                                seed = entry.map(seed);
-                                processed.add(descriptor);
-                            }
-                        }
-                        location = Math.min(location, seed);
-                    }
-                    return location;
-                });
+            var event = new SeedRangeEvent();
+            event.begin();
 
-                futures.add(future);
-            }
-        }
+            var location = almanac.locations().minimumLocation(seedRange.start(), seedRange.end());
 
-        var min = Long.MAX_VALUE;
+            event.commit(seedRange.start(), seedRange.length(), location);
 
-        for (var future : futures) {
-            min = Math.min(min, future.get());
+            min = Math.min(min, location);
         }
 
         return min;
     }
 
-    private static AlmanacEntry buildEntry(MappingDescriptor mappingDescriptor, String line) {
-        var values = line.split(" ");
-        var destinationRangeStart = ParsingUtils.parseLong(values[0]);
-        var sourceRangeStart = ParsingUtils.parseLong(values[1]);
-        var rangeLength = ParsingUtils.parseLong(values[2]);
+    private static AlmanacEntry buildEntry(String line) {
+
+        var cursor = new NumberCursor(line);
+        var destinationRangeStart = cursor.nextLong();
+        var sourceRangeStart = cursor.nextLong();
+        var rangeLength = cursor.nextLong();
+
+        Preconditions.checkState(
+            Math.min(destinationRangeStart, Math.min(sourceRangeStart, rangeLength)) >= 0
+                && Math.max(destinationRangeStart, sourceRangeStart) <= SeedLocationTable.DOMAIN_END - rangeLength,
+            "Almanac entry out of range: %s", line
+        );
+
         return new AlmanacEntry(
-            mappingDescriptor,
             destinationRangeStart,
             sourceRangeStart,
             rangeLength
         );
     }
 
+    record Almanac(
+        List<Long> seeds,
+        List<SeedRange> seedRanges,
+        SeedLocationTable locations
+    ) {}
+
+    private record SeedRange(long start, long length) {
+        long end() {
+            return start + length;
+        }
+    }
+
+    /**
+     * All seven maps composed into one: segment i covers the seeds [starts[i], starts[i + 1]) (the last one runs up to
+     * DOMAIN_END) and maps each of them to seed + offsets[i]. Neighbouring segments always have different offsets.
+     */
+    record SeedLocationTable(long[] starts, long[] offsets) {
+
+        // Almanac numbers stay below this bound, so adding an offset to any value in the domain never overflows.
+        static final long DOMAIN_END = Long.MAX_VALUE >> 1;
+
+        /**
+         * Starts from the identity over [0, DOMAIN_END) and splits every segment at the entry boundaries of each layer
+         * in turn, looking the layer up at the segment's current image; segments stay sorted because offsets preserve order.
+         */
+        static SeedLocationTable compose(List<MappingLayer> layers) {
+
+            List<Segment> segments = List.of(new Segment(0, DOMAIN_END, 0));
+
+            for (var layer : layers) {
+
+                List<Segment> resultBuilder = new ArrayList<>();
+
+                for (var segment : segments) {
+                    var shift = segment.offset();
+                    layer.split(
+                        segment.start() + shift,
+                        segment.end() + shift,
+                        (start, end, offset) -> resultBuilder.add(new Segment(start - shift, end - shift, shift + offset))
+                    );
+                }
+
+                segments = resultBuilder;
+            }
+
+            var starts = new long[segments.size()];
+            var offsets = new long[segments.size()];
+            var size = 0;
+
+            for (var segment : segments) {
+                if (size == 0 || offsets[size - 1] != segment.offset()) {
+                    starts[size] = segment.start();
+                    offsets[size] = segment.offset();
+                    size++;
+                }
+            }
+
+            return new SeedLocationTable(Arrays.copyOf(starts, size), Arrays.copyOf(offsets, size));
+        }
+
+        long locate(long seed) {
+            return seed + offsets[segmentOf(seed)];
+        }
+
+        /**
+         * The smallest location of the seeds in [start, end), or Long.MAX_VALUE for an empty range.
+         * Locations only grow inside a segment, so every overlapped segment contributes its first seed in the range.
+         */
+        long minimumLocation(long start, long end) {
+
+            if (start >= end) {
+                return Long.MAX_VALUE;
+            }
+
+            var index = segmentOf(start);
+            var result = start + offsets[index];
+
+            for (var i = index + 1; i < starts.length && starts[i] < end; i++) {
+                result = Math.min(result, starts[i] + offsets[i]);
+            }
+
+            return result;
+        }
+
+        private int segmentOf(long seed) {
+
+            Preconditions.checkArgument(seed >= 0 && seed < DOMAIN_END, "Seed out of range: %s", seed);
+
+            var index = Arrays.binarySearch(starts, seed);
+
+            return index >= 0 ? index : -index - 2;
+        }
+    }
+
+    private record Segment(long start, long end, long offset) {}
+
+    @FunctionalInterface
+    private interface PieceConsumer {
+        void accept(long start, long end, long offset);
+    }
+
+    /**
+     * The entries of one map, sorted by source start. Entries must not overlap; values outside all of them map to themselves.
+     */
+    private record MappingLayer(
+        MappingDescriptor mappingDescriptor,
+        List<AlmanacEntry> entries
+    ) {
+
+        static MappingLayer of(MappingDescriptor mappingDescriptor, List<AlmanacEntry> entries) {
+
+            var sorted = entries.stream()
+                .sorted(Comparator.comparingLong(AlmanacEntry::sourceRangeStart))
+                .toList();
+
+            for (var i = 1; i < sorted.size(); i++) {
+                Preconditions.checkState(
+                    sorted.get(i - 1).sourceRangeEnd() <= sorted.get(i).sourceRangeStart(),
+                    "Overlapping source ranges in the %s map", mappingDescriptor
+                );
+            }
+
+            return new MappingLayer(mappingDescriptor, sorted);
+        }
+
+        /**
+         * Cuts [start, end) at the entry boundaries and hands out the pieces in order, each with the offset that
+         * maps it; the gaps between entries come out with an offset of 0.
+         */
+        void split(long start, long end, PieceConsumer action) {
+
+            var cursor = start;
+
+            for (var i = firstEntryEndingAfter(start); i < entries.size() && cursor < end; i++) {
+
+                var entry = entries.get(i);
+
+                if (entry.sourceRangeStart() >= end) {
+                    break;
+                }
+
+                if (cursor < entry.sourceRangeStart()) {
+                    action.accept(cursor, entry.sourceRangeStart(), 0);
+                    cursor = entry.sourceRangeStart();
+                }
+
+                var pieceEnd = Math.min(end, entry.sourceRangeEnd());
+
+                action.accept(cursor, pieceEnd, entry.offset());
+
+                cursor = pieceEnd;
+            }
+
+            if (cursor < end) {
+                action.accept(cursor, end, 0);
+            }
+        }
+
+        private int firstEntryEndingAfter(long value) {
+
+            var low = 0;
+            var high = entries.size();
+
+            while (low < high) {
+                var middle = (low + high) >>> 1;
+                if (entries.get(middle).sourceRangeEnd() <= value) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+
+            return low;
+        }
+    }
+
     private record MappingDescriptor(
         Category source,
         Category destination
     ) { }
 
     private record AlmanacEntry(
-        MappingDescriptor mappingDescriptor,
-        Long destinationRangeStart,
-        Long sourceRangeStart,
-        Long rangeLength
+        long destinationRangeStart,
+        long sourceRangeStart,
+        long rangeLength
     ) {
-        public boolean contains(Long seed) {
-            return seed >= sourceRangeStart && seed <= sourceRangeStart + rangeLength;
+        long sourceRangeEnd() {
+            return sourceRangeStart + rangeLength;
         }
 
-        public Long map(Long seed) {
-            return destinationRangeStart + (seed - sourceRangeStart);
+        long offset() {
+            return destinationRangeStart - sourceRangeStart;
         }
     }
 
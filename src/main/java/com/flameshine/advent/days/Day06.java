@@ -4,7 +4,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
-import com.flameshine.advent.util.IOUtils;
+import com.flameshine.advent.solver.Solver;
+import com.flameshine.advent.solver.SolverRunner;
+import com.flameshine.advent.util.InputSource;
+import com.flameshine.advent.util.NumberCursor;
 import com.flameshine.advent.util.ParsingUtils;
 
 /**
@@ -89,47 +92,55 @@ import com.flameshine.advent.util.ParsingUtils;
  *
  * How many ways can you beat the record in this one much longer race?
  */
-public class Day06 {
+public class Day06 implements Solver<Day06.RaceSheet> {
 
     public static void main(String... args) {
+        SolverRunner.run(new Day06(), args);
+    }
+
+    @Override
+    public InputSource input() {
+        return InputSource.ofResource(Day06.class, "day06/races.txt");
+    }
 
-        var lines = IOUtils.readAllLines(Day06.class.getResource("day06/races.txt"));
+    @Override
+    public RaceSheet parse(InputSource source) {
+        var lines = source.readAllLines();
+        return new RaceSheet(buildSeparatedRaces(lines), buildSingleRace(lines));
+    }
 
-        // Part 1
+    @Override
+    public Integer part1(RaceSheet sheet) {
 
-        var races = buildSeparatedRaces(lines);
         var productOfWinningRaceConfigurationCounts = 1;
 
-        for (var race : races) {
+        for (var race : sheet.races()) {
             var winningCount = getWinningConfigurationCount(race);
             productOfWinningRaceConfigurationCounts *= winningCount;
         }
 
-        System.out.println(productOfWinningRaceConfigurationCounts);
-
-        // Part 2
-
-        var race = buildSingleRace(lines);
+        return productOfWinningRaceConfigurationCounts;
+    }
 
-        System.out.println(
-            getWinningConfigurationCount(race)
-        );
+    @Override
+    public Long part2(RaceSheet sheet) {
+        return getWinningConfigurationCount(sheet.singleRace());
     }
 
     private static List<Race> buildSeparatedRaces(List<String> lines) {
 
+        var cursor = new NumberCursor();
+
         List<Integer> times = new ArrayList<>();
-        var timeValues = removeTrailingWhitespaces(lines.get(0)).split("\\s");
-        for (var i = 1; i < timeValues.length; i++) {
-            var parsed = ParsingUtils.parseInt(timeValues[i]);
-            times.add(parsed);
+        cursor.reset(lines.get(0));
+        while (cursor.hasNext()) {
+            times.add(cursor.nextInt());
         }
 
         List<Integer> distances = new ArrayList<>();
-        var distanceValues = removeTrailingWhitespaces(lines.get(1)).split("\\s");
-        for (var i = 1; i < distanceValues.length; i++) {
-            var parsed = ParsingUtils.parseInt(distanceValues[i]);
-            distances.add(parsed);
+        cursor.reset(lines.get(1));
+        while (cursor.hasNext()) {
+            distances.add(cursor.nextInt());
         }
 
         List<Race> resultBuilder = new ArrayList<>();
@@ -143,22 +154,8 @@ public class Day06 {
     }
 
     private static Race buildSingleRace(List<String> lines) {
-
-        var timeBuilder = new StringBuilder();
-        var timeValues = removeTrailingWhitespaces(lines.get(0)).split("\\s");
-        for (var i = 1; i < timeValues.length; i++) {
-            timeBuilder.append(timeValues[i]);
-        }
-
-        var distanceBuilder = new StringBuilder();
-        var distanceValues = removeTrailingWhitespaces(lines.get(1)).split("\\s");
-        for (var i = 1; i < distanceValues.length; i++) {
-            distanceBuilder.append(distanceValues[i]);
-        }
-
-        var time = ParsingUtils.parseLong(timeBuilder.toString());
-        var distance = ParsingUtils.parseLong(distanceBuilder.toString());
-
+        var time = concatenateDigits(lines.get(0));
+        var distance = concatenateDigits(lines.get(1));
         return new Race(time, distance);
     }
 
@@ -177,10 +174,25 @@ public class Day06 {
         return result;
     }
 
-    private static String removeTrailingWhitespaces(String s) {
-        return s.replaceAll("\\s{2,}", " ").trim();
+    private static long concatenateDigits(String line) {
+
+        var result = 0L;
+
+        for (var i = 0; i < line.length(); i++) {
+            var c = line.charAt(i);
+            if (ParsingUtils.isDigit(c)) {
+                result = Math.addExact(Math.multiplyExact(result, 10), c - '0');
+            }
+        }
+
+        return result;
     }
 
+    record RaceSheet(
+        List<Race> races,
+        Race singleRace
+    ) {}
+
     private record Race(
         long time,
         long distance
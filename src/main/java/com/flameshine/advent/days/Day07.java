@@ -9,7 +9,9 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
-import com.flameshine.advent.util.IOUtils;
+import com.flameshine.advent.solver.Solver;
+import com.flameshine.advent.solver.SolverRunner;
+import com.flameshine.advent.util.InputSource;
 import com.flameshine.advent.util.ParsingUtils;
 
 /**
@@ -104,37 +106,35 @@ import com.flameshine.advent.util.ParsingUtils;
  * Using the new joker rule, find the rank of every hand in your set.
  * What are the new total winnings?
  */
-public class Day07 {
+public class Day07 implements Solver<List<Day07.Hand>> {
 
     public static void main(String... args) {
+        SolverRunner.run(new Day07(), args);
+    }
 
-        var lines = IOUtils.readAllLines(Day07.class.getResource("day07/hands.txt"));
-
-        // Part 1
-
-        System.out.println(
-            calculateTotalWinnings(lines)
-        );
-
-        // Part 2
+    @Override
+    public InputSource input() {
+        return InputSource.ofResource(Day07.class, "day07/hands.txt");
+    }
 
-        System.out.println(
-            calculateTotalWinningsConsideringJokers(lines)
-        );
+    @Override
+    public List<Hand> parse(InputSource source) {
+        return buildHands(source.readAllLines());
     }
 
-    private static int calculateTotalWinnings(List<String> lines) {
-        var hands = buildHands(lines);
+    @Override
+    public Long part1(List<Hand> hands) {
         return getTotalWinnings(hands);
     }
 
-    private static int calculateTotalWinningsConsideringJokers(List<String> lines) {
+    @Override
+    public Long part2(List<Hand> hands) {
 
-        var hands = buildHands(lines).stream()
+        var handsConsideringJokers = hands.stream()
             .map(Hand::new)
             .toList();
 
-        return getTotalWinnings(hands);
+        return getTotalWinnings(handsConsideringJokers);
     }
 
     private static List<Hand> buildHands(List<String> lines) {
@@ -151,7 +151,7 @@ public class Day07 {
         return Collections.unmodifiableList(resultBuilder);
     }
 
-    private static int getTotalWinnings(List<Hand> hands) {
+    private static long getTotalWinnings(List<Hand> hands) {
 
         var handsSortedByCombinationType = hands.stream()
             .sorted(Hand::compareTo)
@@ -161,15 +161,14 @@ public class Day07 {
             .collect(Collectors.toUnmodifiableMap(Hand::bid, h -> handsSortedByCombinationType.indexOf(h) + 1));
 
         return bidToMultiplier.entrySet().stream()
-            .mapToInt(e -> e.getKey() * e.getValue())
+            .mapToLong(e -> (long) e.getKey() * e.getValue())
             .sum();
     }
 
-    private static class Hand implements Comparable<Hand> {
+    static class Hand implements Comparable<Hand> {
 
-        private static final Map<Character, Integer> CARD_BY_STRENGTH = IntStream.range(0, 13)
-            .boxed()
-            .collect(Collectors.toMap("AKQJT98765432"::charAt, i -> 13 - i));
+        private static final Map<Character, Integer> CARD_BY_STRENGTH = rankCards("AKQJT98765432");
+        private static final Map<Character, Integer> CARD_BY_STRENGTH_CONSIDERING_JOKERS = rankCards("AKQT98765432J");
 
         private final String combination;
         private final int bid;
@@ -195,8 +194,6 @@ public class Day07 {
             this.bid = hand.bid();
             this.considerJokers = true;
 
-            CARD_BY_STRENGTH.put('J', 0);
-
             var characterToCount = combination.chars()
                 .mapToObj(c -> (char) c)
                 .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
@@ -217,9 +214,11 @@ public class Day07 {
                 return type.strength() - otherType.strength();
             }
 
+            var cardByStrength = considerJokers ? CARD_BY_STRENGTH_CONSIDERING_JOKERS : CARD_BY_STRENGTH;
+
             for (var i = 0; i < combination.length(); i++) {
-                var thisCombinationCharStrength = CARD_BY_STRENGTH.get(combination.charAt(i));
-                var otherCombinationCharStrength = CARD_BY_STRENGTH.get(other.combination().charAt(i));
+                var thisCombinationCharStrength = cardByStrength.get(combination.charAt(i));
+                var otherCombinationCharStrength = cardByStrength.get(other.combination().charAt(i));
                 if (!Objects.equals(thisCombinationCharStrength, otherCombinationCharStrength)) {
                     return thisCombinationCharStrength - otherCombinationCharStrength;
                 }
@@ -240,6 +239,12 @@ public class Day07 {
             return type;
         }
 
+        private static Map<Character, Integer> rankCards(String cardsByDescendingStrength) {
+            return IntStream.range(0, cardsByDescendingStrength.length())
+                .boxed()
+                .collect(Collectors.toUnmodifiableMap(cardsByDescendingStrength::charAt, i -> cardsByDescendingStrength.length() - i));
+        }
+
         private Type determineType(Map<Character, Long> characterToCount) {
 
             var sortedCounts = characterToCount.values().stream()
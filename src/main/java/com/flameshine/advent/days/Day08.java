@@ -1,20 +1,21 @@
 package com.flameshine.advent.days;
 
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.UncheckedIOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Scanner;
 import java.util.regex.Pattern;
 
 import com.google.common.base.Preconditions;
 
+import com.flameshine.advent.events.GhostWalkEvent;
+import com.flameshine.advent.solver.Solver;
+import com.flameshine.advent.solver.SolverRunner;
+import com.flameshine.advent.util.InputSource;
+
 /**
  * Day 8: Haunted Wasteland
  *
@@ -100,50 +101,59 @@ import com.google.common.base.Preconditions;
  * Simultaneously start on every node that ends with A.
  * How many steps does it take before you're only on nodes that end with Z?
  */
-public class Day08 {
+public class Day08 implements Solver<Day08.Network> {
 
     private static final Pattern ROUTE_PATTERN = Pattern.compile("(\\w+) = \\((\\w+), (\\w+)\\)");
 
     public static void main(String... args) {
+        SolverRunner.run(new Day08(), args);
+    }
+
+    @Override
+    public InputSource input() {
+        return InputSource.ofResource(Day08.class, "day08/instructions.txt");
+    }
+
+    @Override
+    public Network parse(InputSource source) {
 
         List<Direction> directions = new ArrayList<>();
         Map<String, Route> nodes = new HashMap<>();
 
-        try (var scanner = new Scanner(new File(Objects.requireNonNull(Day08.class.getResource("day08/instructions.txt")).getPath()))) {
+        var lines = source.readAllLines().iterator();
 
-            if (scanner.hasNextLine()) {
-                var directionsLine = scanner.nextLine();
-                directionsLine.chars()
-                    .mapToObj(c -> String.valueOf((char) c))
-                    .map(Direction::valueOf)
-                    .forEach(directions::add);
-            }
+        if (lines.hasNext()) {
+            var directionsLine = lines.next();
+            directionsLine.chars()
+                .mapToObj(c -> String.valueOf((char) c))
+                .map(Direction::valueOf)
+                .forEach(directions::add);
+        }
 
-            scanner.nextLine();
+        lines.next();
 
-            while (scanner.hasNextLine()) {
-                var line = scanner.nextLine();
-                var matcher = ROUTE_PATTERN.matcher(line);
-                Preconditions.checkState(matcher.find());
-                var route = new Route(matcher.group(2), matcher.group(3));
-                nodes.put(matcher.group(1), route);
-            }
-
-        } catch (FileNotFoundException e) {
-            throw new UncheckedIOException(e);
+        while (lines.hasNext()) {
+            var line = lines.next();
+            var matcher = ROUTE_PATTERN.matcher(line);
+            Preconditions.checkState(matcher.find());
+            var route = new Route(matcher.group(2), matcher.group(3));
+            nodes.put(matcher.group(1), route);
         }
 
-        // Part 1
-
-        System.out.println(
-            calculateSteps(directions, nodes)
+        return new Network(
+            Collections.unmodifiableList(directions),
+            Collections.unmodifiableMap(nodes)
         );
+    }
 
-        // Part 2
+    @Override
+    public Integer part1(Network network) {
+        return calculateSteps(network.directions(), network.nodes());
+    }
 
-        System.out.println(
-            calculateStepsSimultaneously(directions, nodes)
-        );
+    @Override
+    public BigInteger part2(Network network) {
+        return calculateStepsSimultaneously(network.directions(), network.nodes());
     }
 
     private static int calculateSteps(List<Direction> directions, Map<String, Route> nodes) {
@@ -186,17 +196,27 @@ public class Day08 {
 
     public static int calculateStepsForNode(String current, List<Direction> directions, Map<String, Route> nodes) {
 
+        var event = new GhostWalkEvent();
+        event.begin();
+
+        var start = current;
         var count = 1;
 
         for (var directionPointer = 0;; directionPointer = (directionPointer + 1) % directions.size(), count++) {
             var route = nodes.get(current);
             current = directions.get(directionPointer) == Direction.L ? route.left() : route.right();
             if (current.endsWith("Z")) {
+                event.commit(start, count);
                 return count;
             }
         }
     }
 
+    record Network(
+        List<Direction> directions,
+        Map<String, Route> nodes
+    ) {}
+
     private enum Direction {
         L,
         R
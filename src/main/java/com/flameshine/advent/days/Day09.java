@@ -1,12 +1,16 @@
 package com.flameshine.advent.days;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collector;
 
-import com.flameshine.advent.util.IOUtils;
-import com.flameshine.advent.util.ParsingUtils;
+import com.flameshine.advent.solver.Solver;
+import com.flameshine.advent.solver.SolverRunner;
+import com.flameshine.advent.util.ByteLine;
+import com.flameshine.advent.util.InputSource;
+import com.flameshine.advent.util.NumberCursor;
+import com.flameshine.advent.util.ParallelLineReader;
 
 /**
  * Day 9: Mirage Maintenance
@@ -116,29 +120,42 @@ import com.flameshine.advent.util.ParsingUtils;
  * Analyze your OASIS report again, this time extrapolating the previous value for each history.
  * What is the sum of these extrapolated values?
  */
-public class Day09 {
+public class Day09 implements Solver<List<List<List<Integer>>>> {
 
-    public static void main(String... args) {
+    private static final Collector<ByteLine, HistorySequencesBuilder, List<List<List<Integer>>>> HISTORY_SEQUENCES = Collector.of(
+        HistorySequencesBuilder::new,
+        HistorySequencesBuilder::accept,
+        HistorySequencesBuilder::merge,
+        HistorySequencesBuilder::build
+    );
 
-        var lines = IOUtils.readAllLines(Day09.class.getResource("day09/histories.txt"));
-        var historySequences = buildHistorySequences(lines);
+    public static void main(String... args) {
+        SolverRunner.run(new Day09(), args);
+    }
 
-        // Part 1
+    @Override
+    public InputSource input() {
+        return InputSource.ofResource(Day09.class, "day09/histories.txt");
+    }
 
-        System.out.println(
-            calculateSumOfExtrapolatedValuesAtTheEnd(historySequences)
-        );
+    @Override
+    public List<List<List<Integer>>> parse(InputSource source) {
+        return ParallelLineReader.collect(source, HISTORY_SEQUENCES);
+    }
 
-        // Part 2
+    @Override
+    public Long part1(List<List<List<Integer>>> historySequences) {
+        return calculateSumOfExtrapolatedValuesAtTheEnd(historySequences);
+    }
 
-        System.out.println(
-            calculateSumOfExtrapolatedValuesAtTheBeginning(historySequences)
-        );
+    @Override
+    public Long part2(List<List<List<Integer>>> historySequences) {
+        return calculateSumOfExtrapolatedValuesAtTheBeginning(historySequences);
     }
 
-    private static int calculateSumOfExtrapolatedValuesAtTheEnd(List<List<List<Integer>>> historySequences) {
+    private static long calculateSumOfExtrapolatedValuesAtTheEnd(List<List<List<Integer>>> historySequences) {
 
-        var result = 0;
+        var result = 0L;
 
         for (var historySequence : historySequences) {
             result += calculateSingleSumOfExtrapolatedValuesAtTheEnd(historySequence);
@@ -147,9 +164,9 @@ public class Day09 {
         return result;
     }
 
-    private static int calculateSumOfExtrapolatedValuesAtTheBeginning(List<List<List<Integer>>> historySequences) {
+    private static long calculateSumOfExtrapolatedValuesAtTheBeginning(List<List<List<Integer>>> historySequences) {
 
-        var result = 0;
+        var result = 0L;
 
         for (var historySequence : historySequences) {
             result += calculateFirstExtrapolatedValue(historySequence);
@@ -158,20 +175,19 @@ public class Day09 {
         return result;
     }
 
-    private static List<List<List<Integer>>> buildHistorySequences(List<String> lines) {
+    private static List<List<Integer>> buildHistorySequence(NumberCursor cursor) {
 
-        List<List<List<Integer>>> resultBuilder = new ArrayList<>();
+        List<Integer> originalSequence = new ArrayList<>();
 
-        for (var line : lines) {
-            var values = line.split("\\s");
-            var originalSequence = Arrays.stream(values).map(ParsingUtils::parseInt).toList();
-            List<List<Integer>> historySequence = new ArrayList<>();
-            historySequence.add(originalSequence);
-            findDifferenceSequences(historySequence, originalSequence);
-            resultBuilder.add(historySequence);
+        while (cursor.hasNext()) {
+            originalSequence.add(cursor.nextInt());
         }
 
-        return Collections.unmodifiableList(resultBuilder);
+        List<List<Integer>> historySequence = new ArrayList<>();
+        historySequence.add(originalSequence);
+        findDifferenceSequences(historySequence, originalSequence);
+
+        return historySequence;
     }
 
     private static void findDifferenceSequences(List<List<Integer>> sequences, List<Integer> currentDifferences) {
@@ -226,4 +242,23 @@ public class Day09 {
 
         return extrapolatedValue;
     }
+
+    private static final class HistorySequencesBuilder {
+
+        private final NumberCursor cursor = new NumberCursor();
+        private final List<List<List<Integer>>> historySequences = new ArrayList<>();
+
+        void accept(CharSequence line) {
+            historySequences.add(buildHistorySequence(cursor.reset(line)));
+        }
+
+        HistorySequencesBuilder merge(HistorySequencesBuilder other) {
+            historySequences.addAll(other.historySequences);
+            return this;
+        }
+
+        List<List<List<Integer>>> build() {
+            return Collections.unmodifiableList(historySequences);
+        }
+    }
 }
\ No newline at end of file
@@ -11,7 +11,10 @@ import java.util.Queue;
 import java.util.Set;
 import java.util.stream.Stream;
 
-import com.flameshine.advent.util.IOUtils;
+import com.flameshine.advent.events.GridRowEvent;
+import com.flameshine.advent.solver.Solver;
+import com.flameshine.advent.solver.SolverRunner;
+import com.flameshine.advent.util.InputSource;
 
 /**
  * Day 10: Pipe Maze
@@ -225,37 +228,40 @@ import com.flameshine.advent.util.IOUtils;
  * Figure out whether you have time to search for the nest by calculating the area within the loop.
  * How many tiles are enclosed by the loop?
  */
-public class Day10 {
+public class Day10 implements Solver<Day10.PipeSketch> {
 
-    private static final List<String> LINES;
-
-    static {
-        LINES = IOUtils.readAllLines(Day10.class.getResource("day10/sketch.txt"));
+    public static void main(String... args) {
+        SolverRunner.run(new Day10(), args);
     }
 
-    public static void main(String... args) {
+    @Override
+    public InputSource input() {
+        return InputSource.ofResource(Day10.class, "day10/sketch.txt");
+    }
 
-        var start = findStart();
-        var normalizedSketch = normalize(start);
+    @Override
+    public PipeSketch parse(InputSource source) {
+        var lines = source.readAllLines();
+        var start = findStart(lines);
+        var normalizedSketch = normalize(start, lines);
         var pipe = findPipe(start, normalizedSketch);
+        return new PipeSketch(normalizedSketch, Collections.unmodifiableSet(pipe));
+    }
 
-        // Part 1
-
-        System.out.println(
-            pipe.size() / 2
-        );
-
-        // Part 2
+    @Override
+    public Integer part1(PipeSketch sketch) {
+        return sketch.pipe().size() / 2;
+    }
 
-        System.out.println(
-            countEnclosedTiles(pipe, normalizedSketch)
-        );
+    @Override
+    public Integer part2(PipeSketch sketch) {
+        return countEnclosedTiles(sketch.pipe(), sketch.lines());
     }
 
-    private static Coordinate findStart() {
+    private static Coordinate findStart(List<String> lines) {
 
-        for (var y = 0; y < LINES.size(); y++) {
-            var x = LINES.get(y).indexOf('S');
+        for (var y = 0; y < lines.size(); y++) {
+            var x = lines.get(y).indexOf('S');
             if (x >= 0) {
                 return new Coordinate(x, y);
             }
@@ -264,21 +270,21 @@ public class Day10 {
         throw new IllegalStateException();
     }
 
-    private static List<String> normalize(Coordinate start) {
+    private static List<String> normalize(Coordinate start, List<String> lines) {
 
         char startCharacter =  Stream.of('|', '-', 'F', 'L', 'J', '7')
-            .filter(c -> isValid(start, c))
+            .filter(c -> isValid(start, c, lines))
             .findAny()
             .orElseThrow();
 
         List<String> resultBuilder = new ArrayList<>();
 
-        for (var i = 0; i < LINES.size(); i++) {
+        for (var i = 0; i < lines.size(); i++) {
             String replaced;
             if (i != start.y()) {
-                replaced = LINES.get(i);
+                replaced = lines.get(i);
             } else {
-                var chars = LINES.get(i).toCharArray();
+                var chars = lines.get(i).toCharArray();
                 chars[start.x()] = startCharacter;
                 replaced = new String(chars);
             }
@@ -288,14 +294,14 @@ public class Day10 {
         return Collections.unmodifiableList(resultBuilder);
     }
 
-    private static boolean isValid(Coordinate start, Character c) {
+    private static boolean isValid(Coordinate start, Character c, List<String> lines) {
 
         var startX = start.x();
         var startY = start.y();
-        var before = LINES.get(startY).charAt(startX - 1);
-        var after = LINES.get(startY).charAt(startX + 1);
-        var over = LINES.get(startY - 1).charAt(startX);
-        var under = LINES.get(startY + 1).charAt(startX);
+        var before = lines.get(startY).charAt(startX - 1);
+        var after = lines.get(startY).charAt(startX + 1);
+        var over = lines.get(startY - 1).charAt(startX);
+        var under = lines.get(startY + 1).charAt(startX);
 
         return switch (c) {
             case '-' -> (before == 'F' || before == '-' || before == 'L') && (after == '-' || after == 'J' || after == '7');
@@ -333,7 +339,11 @@ public class Day10 {
 
         for (var i = 0; i < sketch.size(); i++) {
 
+            var event = new GridRowEvent();
+            event.begin();
+
             Set<Coordinate> found = new HashSet<>();
+            var enclosedBefore = enclosed.size();
 
             var line = sketch.get(i);
             var isEnclosed = false;
@@ -375,6 +385,8 @@ public class Day10 {
                     start = ' ';
                 }
             }
+
+            event.commit(i, enclosed.size() - enclosedBefore);
         }
 
         return enclosed.size();
@@ -422,5 +434,10 @@ public class Day10 {
         return lines.get(c.y()).charAt(c.x());
     }
 
+    record PipeSketch(
+        List<String> lines,
+        Set<Coordinate> pipe
+    ) {}
+
     private record Coordinate(int x, int y) {}
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.flameshine.advent.days;
+
+import java.util.List;
+
+import com.flameshine.advent.solver.Solver;
+import com.flameshine.advent.solver.SuiteRunner;
+
+public final class Days {
+
+    private Days() {}
+
+    /**
+     * Runs every day concurrently and prints the answers with per-phase timings.
+     */
+    public static void main(String... args) {
+        SuiteRunner.runAndPrint(all());
+    }
+
+    public static List<Solver<?>> all() {
+        return List.of(
+            new Day01(),
+            new Day02(),
+            new Day03(),
+            new Day04(),
+            new Day05(),
+            new Day06(),
+            new Day07(),
+            new Day08(),
+            new Day09(),
+            new Day10()
+        );
+    }
+
+    /**
+     * Looks a solver up by its simple class name, e.g. "Day05".
+     */
+    public static Solver<?> byName(String name) {
+        return all().stream()
+            .filter(s -> s.getClass().getSimpleName().equals(name))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unknown day: " + name));
+    }
+
+    /**
+     * Like {@link #byName(String)}, but built with the named mode of a day that has several (Day01.Scan, Day03.Engine
+     * and Day04.Engine); an empty mode selects the default.
+     */
+    public static Solver<?> byName(String name, String mode) {
+
+        if (mode.isEmpty()) {
+            return byName(name);
+        }
+
+        return switch (name) {
+            case "Day01" -> new Day01(Day01.Scan.valueOf(mode));
+            case "Day03" -> new Day03(Day03.Engine.valueOf(mode));
+            case "Day04" -> new Day04(Day04.Engine.valueOf(mode));
+            default -> throw new IllegalArgumentException(name + " has no modes, got: " + mode);
+        };
+    }
+}
\ No newline at end of file
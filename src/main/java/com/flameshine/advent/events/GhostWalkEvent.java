@@ -0,0 +1,30 @@
+package com.flameshine.advent.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.flameshine.advent.GhostWalk")
+@Label("Ghost Walk")
+@Category({ "Advent of Code", "Day 8" })
+@Description("A single ghost walking from its start node to the first node ending with Z")
+@StackTrace(false)
+public final class GhostWalkEvent extends Event {
+
+    @Label("Start Node")
+    private String startNode;
+
+    @Label("Steps")
+    private long steps;
+
+    public void commit(String startNode, long steps) {
+        if (shouldCommit()) {
+            this.startNode = startNode;
+            this.steps = steps;
+            commit();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.flameshine.advent.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.flameshine.advent.GridRow")
+@Label("Grid Row")
+@Category({ "Advent of Code", "Day 10" })
+@Description("A single sketch row scanned for tiles enclosed by the loop")
+@StackTrace(false)
+public final class GridRowEvent extends Event {
+
+    @Label("Row")
+    private int row;
+
+    @Label("Enclosed Tiles")
+    private int enclosedTiles;
+
+    public void commit(int row, int enclosedTiles) {
+        if (shouldCommit()) {
+            this.row = row;
+            this.enclosedTiles = enclosedTiles;
+            commit();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.flameshine.advent.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.flameshine.advent.LinesParsed")
+@Label("Lines Parsed")
+@Category({ "Advent of Code", "Input" })
+@Description("A block of input split into lines and handed to a solver")
+@StackTrace(false)
+public final class LinesParsedEvent extends Event {
+
+    @Label("Bytes")
+    @DataAmount
+    private long bytes;
+
+    @Label("Lines")
+    private long lines;
+
+    public void commit(long bytes, long lines) {
+        if (shouldCommit()) {
+            this.bytes = bytes;
+            this.lines = lines;
+            commit();
+        }
+    }
+}
\ No newline at end of file
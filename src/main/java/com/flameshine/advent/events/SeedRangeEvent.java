@@ -0,0 +1,34 @@
+package com.flameshine.advent.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.flameshine.advent.SeedRange")
+@Label("Seed Range")
+@Category({ "Advent of Code", "Day 5" })
+@Description("The minimum location of one seed range, looked up in the composed seed-to-location table")
+@StackTrace(false)
+public final class SeedRangeEvent extends Event {
+
+    @Label("Seed Range Start")
+    private long start;
+
+    @Label("Seed Range Length")
+    private long length;
+
+    @Label("Minimum Location In Range")
+    private long minimumLocation;
+
+    public void commit(long start, long length, long minimumLocation) {
+        if (shouldCommit()) {
+            this.start = start;
+            this.length = length;
+            this.minimumLocation = minimumLocation;
+            commit();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.flameshine.advent.generators;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.SplittableRandom;
+
+/**
+ * Almanacs with seven maps of equal size; every map covers its number space with non-overlapping source ranges
+ * separated by unmapped gaps. Seed ranges are disjoint and grow in number with the maps.
+ */
+final class AlmanacGenerator implements InputGenerator {
+
+    private static final String[] MAPS = {
+        "seed-to-soil",
+        "soil-to-fertilizer",
+        "fertilizer-to-water",
+        "water-to-light",
+        "light-to-temperature",
+        "temperature-to-humidity",
+        "humidity-to-location"
+    };
+
+    private static final int ENTRY_LENGTH = 32;
+
+    @Override
+    public void write(Writer out, long targetBytes, SplittableRandom random) throws IOException {
+
+        var entriesPerMap = Math.max(1, targetBytes / (MAPS.length * ENTRY_LENGTH));
+        var space = Math.max(1L << 32, entriesPerMap << 10);
+        var seedRanges = 10 + Math.min(entriesPerMap / 100, 100_000);
+        var slot = space / seedRanges;
+
+        out.write("seeds:");
+
+        for (var i = 0; i < seedRanges; i++) {
+            var length = random.nextLong(1, slot / 2);
+            var start = i * slot + random.nextLong(slot - length);
+            out.append(' ').append(String.valueOf(start)).append(' ').append(String.valueOf(length));
+        }
+
+        out.write('\n');
+
+        var averageStep = space / entriesPerMap;
+
+        for (var map : MAPS) {
+
+            out.append('\n').append(map).append(" map:\n");
+
+            var source = 0L;
+
+            for (var i = 0; i < entriesPerMap && source < space - 1; i++) {
+
+                source += random.nextLong(averageStep / 4 + 1);
+
+                var length = Math.min(random.nextLong(1, averageStep / 2 + 2), space - source);
+                var destination = random.nextLong(space - length + 1);
+
+                out.append(String.valueOf(destination)).append(' ')
+                    .append(String.valueOf(source)).append(' ')
+                    .append(String.valueOf(length)).append('\n');
+
+                source += length;
+            }
+        }
+    }
+}
\ No newline at end of file
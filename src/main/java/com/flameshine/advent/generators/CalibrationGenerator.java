@@ -0,0 +1,44 @@
+package com.flameshine.advent.generators;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.SplittableRandom;
+
+/**
+ * Calibration lines of lowercase noise with numeric and spelled-out digits mixed in; every line has at least one numeric digit.
+ */
+final class CalibrationGenerator implements InputGenerator {
+
+    private static final String[] WORDS = { "one", "two", "three", "four", "five", "six", "seven", "eight", "nine" };
+
+    @Override
+    public void write(Writer out, long targetBytes, SplittableRandom random) throws IOException {
+
+        var line = new StringBuilder();
+        var written = 0L;
+
+        while (written < targetBytes) {
+
+            line.setLength(0);
+
+            var length = random.nextInt(8, 64);
+
+            while (line.length() < length) {
+                var roll = random.nextInt(10);
+                if (roll == 0) {
+                    line.append((char) ('1' + random.nextInt(9)));
+                } else if (roll == 1) {
+                    line.append(WORDS[random.nextInt(WORDS.length)]);
+                } else {
+                    line.append((char) ('a' + random.nextInt(26)));
+                }
+            }
+
+            line.insert(random.nextInt(line.length() + 1), (char) ('1' + random.nextInt(9)));
+            line.append('\n');
+
+            out.append(line);
+            written += line.length();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.flameshine.advent.generators;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.SplittableRandom;
+
+/**
+ * Scratchcards with ten winning and twenty-five actual numbers between 1 and 99.
+ * Matches never reach past the last card, as the puzzle promises; most cards have few matches, some have many.
+ */
+final class CardGenerator implements InputGenerator {
+
+    private static final int WINNING = 10;
+    private static final int ACTUAL = 25;
+
+    @Override
+    public void write(Writer out, long targetBytes, SplittableRandom random) throws IOException {
+
+        var idWidth = 1;
+        var cards = 1L;
+
+        while (true) {
+            var lineLength = "Card ".length() + idWidth + ":".length() + 3 * WINNING + " |".length() + 3 * ACTUAL + 1;
+            cards = Math.max(1, targetBytes / lineLength);
+            if (String.valueOf(cards).length() <= idWidth) {
+                break;
+            }
+            idWidth++;
+        }
+
+        var line = new StringBuilder();
+        var numbers = new int[99];
+
+        for (var i = 0; i < numbers.length; i++) {
+            numbers[i] = i + 1;
+        }
+
+        for (var id = 1L; id <= cards; id++) {
+
+            var matching = (int) Math.min(drawMatchCount(random), cards - id);
+
+            // Partial shuffle: the first WINNING numbers win, the first `matching` of them are also drawn,
+            // and the rest of the drawn numbers come from past the winning ones.
+            for (var i = 0; i < WINNING + ACTUAL - matching; i++) {
+                var j = random.nextInt(i, numbers.length);
+                var swap = numbers[i];
+                numbers[i] = numbers[j];
+                numbers[j] = swap;
+            }
+
+            line.setLength(0);
+            line.append("Card ").append(" ".repeat(idWidth - String.valueOf(id).length())).append(id).append(':');
+
+            for (var i = 0; i < WINNING; i++) {
+                appendNumber(line, numbers[i]);
+            }
+
+            line.append(" |");
+
+            for (var i = 0; i < matching; i++) {
+                appendNumber(line, numbers[i]);
+            }
+
+            for (var i = 0; i < ACTUAL - matching; i++) {
+                appendNumber(line, numbers[WINNING + i]);
+            }
+
+            line.append('\n');
+
+            out.append(line);
+        }
+    }
+
+    private static int drawMatchCount(SplittableRandom random) {
+
+        var result = 0;
+
+        while (result < WINNING && random.nextInt(100) < 45) {
+            result++;
+        }
+
+        return result;
+    }
+
+    private static void appendNumber(StringBuilder line, int number) {
+        line.append(number < 10 ? "  " : " ").append(number);
+    }
+}
\ No newline at end of file
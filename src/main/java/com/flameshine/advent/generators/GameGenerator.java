@@ -0,0 +1,48 @@
+package com.flameshine.advent.generators;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.SplittableRandom;
+
+/**
+ * Game records with one to six revealed sets of up to twenty cubes per color.
+ */
+final class GameGenerator implements InputGenerator {
+
+    private static final String[] COLORS = { "red", "green", "blue" };
+
+    @Override
+    public void write(Writer out, long targetBytes, SplittableRandom random) throws IOException {
+
+        var line = new StringBuilder();
+        var written = 0L;
+
+        for (var id = 1L; written < targetBytes; id++) {
+
+            line.setLength(0);
+            line.append("Game ").append(id).append(':');
+
+            var sets = random.nextInt(1, 7);
+
+            for (var set = 0; set < sets; set++) {
+
+                line.append(set == 0 ? " " : "; ");
+
+                var first = random.nextInt(3);
+                var colors = random.nextInt(1, 4);
+
+                for (var color = 0; color < colors; color++) {
+                    line.append(color == 0 ? "" : ", ")
+                        .append(random.nextInt(1, 21))
+                        .append(' ')
+                        .append(COLORS[(first + color) % 3]);
+                }
+            }
+
+            line.append('\n');
+
+            out.append(line);
+            written += line.length();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.flameshine.advent.generators;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.util.SplittableRandom;
+
+/**
+ * Camel Cards hands with distinct combinations and distinct bids, which the solver relies on.
+ * There are only 13^5 different hands, so the budget is capped at a few megabytes.
+ * With n hands the winnings add up to roughly n^3 / 4, about 1.3e16 at the cap: far past an int, well inside a long.
+ */
+final class HandGenerator implements InputGenerator {
+
+    private static final String CARDS = "23456789TJQKA";
+    private static final int COMBINATIONS = 371_293;
+
+    @Override
+    public void write(Writer out, long targetBytes, SplittableRandom random) throws IOException {
+
+        var hands = (int) Math.max(1, Math.min(COMBINATIONS, targetBytes / 11));
+
+        // Affine maps i -> (a * i + c) mod m with gcd(a, m) = 1 are permutations, which keeps hands and bids unique without storing them.
+        var handMultiplier = coprimeMultiplier(COMBINATIONS, random);
+        var handOffset = random.nextInt(COMBINATIONS);
+        var bidMultiplier = coprimeMultiplier(hands, random);
+        var bidOffset = random.nextInt(hands);
+
+        var line = new StringBuilder();
+
+        for (var i = 0; i < hands; i++) {
+
+            var hand = (int) ((handMultiplier * i + handOffset) % COMBINATIONS);
+            var bid = (bidMultiplier * i + bidOffset) % hands + 1;
+
+            line.setLength(0);
+
+            for (var card = 0; card < 5; card++) {
+                line.append(CARDS.charAt(hand % 13));
+                hand /= 13;
+            }
+
+            line.append(' ').append(bid).append('\n');
+
+            out.append(line);
+        }
+    }
+
+    private static long coprimeMultiplier(int modulus, SplittableRandom random) {
+
+        var bigModulus = BigInteger.valueOf(modulus);
+
+        while (true) {
+            var candidate = random.nextLong(1, modulus + 1L);
+            if (BigInteger.valueOf(candidate).gcd(bigModulus).equals(BigInteger.ONE)) {
+                return candidate;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.flameshine.advent.generators;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.SplittableRandom;
+
+/**
+ * Histories of twenty-one values sampled from random integer polynomials of degree up to eight, built up from their
+ * difference table so that the differences are guaranteed to reach zero.
+ */
+final class HistoryGenerator implements InputGenerator {
+
+    private static final int LENGTH = 21;
+    private static final int MAX_DEGREE = 8;
+
+    @Override
+    public void write(Writer out, long targetBytes, SplittableRandom random) throws IOException {
+
+        var line = new StringBuilder();
+        var differences = new long[MAX_DEGREE + 1];
+        var written = 0L;
+
+        while (written < targetBytes) {
+
+            var degree = random.nextInt(MAX_DEGREE + 1);
+
+            for (var i = 0; i <= degree; i++) {
+                differences[i] = random.nextInt(-20, 21);
+            }
+
+            line.setLength(0);
+
+            for (var i = 0; i < LENGTH; i++) {
+
+                line.append(i == 0 ? "" : " ").append(differences[0]);
+
+                for (var level = 0; level < degree; level++) {
+                    differences[level] += differences[level + 1];
+                }
+            }
+
+            line.append('\n');
+
+            out.append(line);
+            written += line.length();
+        }
+    }
+}
\ No newline at end of file
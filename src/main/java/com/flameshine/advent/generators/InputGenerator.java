@@ -0,0 +1,29 @@
+package com.flameshine.advent.generators;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * Writes a synthetic puzzle input of roughly the requested size, streaming it out line by line so that the size is
+ * only bounded by the disk. The same seed always produces the same input.
+ */
+public interface InputGenerator {
+
+    void write(Writer out, long targetBytes, SplittableRandom random) throws IOException;
+
+    default Path generate(Path target, long targetBytes, long seed) {
+
+        try (var writer = Files.newBufferedWriter(target, StandardCharsets.US_ASCII)) {
+            write(writer, targetBytes, new SplittableRandom(seed));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return target;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.flameshine.advent.generators;
+
+import java.nio.file.Path;
+
+import com.google.common.base.Preconditions;
+
+import com.flameshine.advent.util.ParsingUtils;
+
+public final class InputGenerators {
+
+    private InputGenerators() {}
+
+    /**
+     * Usage: InputGenerators &lt;day&gt; &lt;target bytes&gt; &lt;seed&gt; &lt;output file&gt;, e.g. "Day03 1073741824 42 schematic.txt".
+     */
+    public static void main(String... args) {
+        Preconditions.checkArgument(args.length == 4, "Expected arguments: <day> <target bytes> <seed> <output file>");
+        forDay(args[0]).generate(Path.of(args[3]), ParsingUtils.parseLong(args[1]), ParsingUtils.parseLong(args[2]));
+    }
+
+    public static InputGenerator forDay(String day) {
+        return switch (day) {
+            case "Day01" -> new CalibrationGenerator();
+            case "Day02" -> new GameGenerator();
+            case "Day03" -> new SchematicGenerator();
+            case "Day04" -> new CardGenerator();
+            case "Day05" -> new AlmanacGenerator();
+            case "Day06" -> new RaceGenerator();
+            case "Day07" -> new HandGenerator();
+            case "Day08" -> new NetworkGenerator();
+            case "Day09" -> new HistoryGenerator();
+            case "Day10" -> new SketchGenerator();
+            default -> throw new IllegalArgumentException("Unknown day: " + day);
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,103 @@
+package com.flameshine.advent.generators;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Networks of six ghost loops of random lengths, the first running from AAA to ZZZ.
+ * Each loop leads from its **A node to its **Z node and from there back to the first node after **A, which is the
+ * structure the least-common-multiple answer of part two depends on. Both directions of a node lead to the same next node.
+ *
+ * Node names have three characters, so a network holds at most about 44,000 nodes (under a megabyte).
+ */
+final class NetworkGenerator implements InputGenerator {
+
+    private static final String ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final int GHOSTS = 6;
+    private static final int LINE_LENGTH = 17;
+
+    @Override
+    public void write(Writer out, long targetBytes, SplittableRandom random) throws IOException {
+
+        var names = intermediateNames(random);
+        var ghostPrefixes = ghostPrefixes(random);
+        var intermediateCount = (int) Math.max(GHOSTS, Math.min(names.size(), targetBytes / LINE_LENGTH - 2 * GHOSTS));
+
+        var directions = new StringBuilder();
+        var directionCount = random.nextInt(50, 300);
+
+        for (var i = 0; i < directionCount; i++) {
+            directions.append(random.nextBoolean() ? 'L' : 'R');
+        }
+
+        out.append(directions).append("\n\n");
+
+        var next = 0;
+
+        for (var ghost = 0; ghost < GHOSTS; ghost++) {
+
+            var remainingGhosts = GHOSTS - ghost;
+            var available = intermediateCount - next;
+            var length = ghost == GHOSTS - 1 ? available : random.nextInt(1, available - remainingGhosts + 2);
+
+            var start = ghost == 0 ? "AAA" : ghostPrefixes.get(ghost) + 'A';
+            var end = ghost == 0 ? "ZZZ" : ghostPrefixes.get(ghost) + 'Z';
+            var first = names.get(next);
+
+            writeNode(out, start, first);
+
+            for (var i = 0; i < length; i++) {
+                var current = names.get(next + i);
+                writeNode(out, current, i == length - 1 ? end : names.get(next + i + 1));
+            }
+
+            writeNode(out, end, first);
+
+            next += length;
+        }
+    }
+
+    private static List<String> intermediateNames(SplittableRandom random) {
+
+        List<String> resultBuilder = new ArrayList<>();
+
+        for (var a : ALPHABET.toCharArray()) {
+            for (var b : ALPHABET.toCharArray()) {
+                for (var c : ALPHABET.toCharArray()) {
+                    if (c != 'A' && c != 'Z') {
+                        resultBuilder.add(new String(new char[] { a, b, c }));
+                    }
+                }
+            }
+        }
+
+        Collections.shuffle(resultBuilder, random);
+
+        return resultBuilder;
+    }
+
+    private static List<String> ghostPrefixes(SplittableRandom random) {
+
+        List<String> resultBuilder = new ArrayList<>();
+
+        for (var a : ALPHABET.toCharArray()) {
+            for (var b : ALPHABET.toCharArray()) {
+                if (a != b || a != 'A' && a != 'Z') {
+                    resultBuilder.add(new String(new char[] { a, b }));
+                }
+            }
+        }
+
+        Collections.shuffle(resultBuilder, random);
+
+        return resultBuilder;
+    }
+
+    private static void writeNode(Writer out, String node, String target) throws IOException {
+        out.append(node).append(" = (").append(target).append(", ").append(target).append(")\n");
+    }
+}
\ No newline at end of file
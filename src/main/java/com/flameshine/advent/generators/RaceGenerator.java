@@ -0,0 +1,33 @@
+package com.flameshine.advent.generators;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.SplittableRandom;
+
+/**
+ * Race sheets of four races with two-digit durations, each with a beatable record.
+ *
+ * Unlike the other generators this one ignores the byte budget: part two reads each line as a single number made of all
+ * its digits, and anything much larger than the real sheet would overflow a long.
+ */
+final class RaceGenerator implements InputGenerator {
+
+    private static final int RACES = 4;
+
+    @Override
+    public void write(Writer out, long targetBytes, SplittableRandom random) throws IOException {
+
+        var times = new StringBuilder("Time:     ");
+        var distances = new StringBuilder("Distance: ");
+
+        for (var i = 0; i < RACES; i++) {
+            var time = random.nextInt(10, 100);
+            var best = (time / 2) * (time - time / 2);
+            var record = random.nextInt(best / 2, best);
+            times.append(String.format("%5d", time));
+            distances.append(String.format("%5d", record));
+        }
+
+        out.append(times).append('\n').append(distances).append('\n');
+    }
+}
\ No newline at end of file
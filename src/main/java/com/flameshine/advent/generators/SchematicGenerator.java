@@ -0,0 +1,48 @@
+package com.flameshine.advent.generators;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.SplittableRandom;
+
+/**
+ * Engine schematics of fixed width whose height grows with the budget; numbers have one to three digits and never touch each other within a row.
+ */
+final class SchematicGenerator implements InputGenerator {
+
+    private static final int WIDTH = 140;
+    private static final String SYMBOLS = "*#+$/@=%&-";
+
+    @Override
+    public void write(Writer out, long targetBytes, SplittableRandom random) throws IOException {
+
+        var row = new char[WIDTH + 1];
+        row[WIDTH] = '\n';
+
+        for (var written = 0L; written < targetBytes; written += row.length) {
+
+            var column = 0;
+
+            while (column < WIDTH) {
+
+                var roll = random.nextInt(100);
+                var digits = random.nextInt(1, 4);
+
+                if (roll < 12 && column + digits <= WIDTH) {
+                    row[column++] = (char) ('1' + random.nextInt(9));
+                    for (var i = 1; i < digits; i++) {
+                        row[column++] = (char) ('0' + random.nextInt(10));
+                    }
+                    if (column < WIDTH) {
+                        row[column++] = '.';
+                    }
+                } else if (roll < 16) {
+                    row[column++] = random.nextBoolean() ? '*' : SYMBOLS.charAt(random.nextInt(SYMBOLS.length()));
+                } else {
+                    row[column++] = '.';
+                }
+            }
+
+            out.write(row);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,84 @@
+package com.flameshine.advent.generators;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Pipe sketches holding one comb-shaped loop on a field of junk pipes.
+ * The loop runs along the top, right and left edges, while its bottom edge rises into teeth of random depths, so the
+ * enclosed area is irregular. S sits in the top-left corner, with nothing but ground above and to the left of it.
+ * Rows are rendered one at a time, so the height is only bounded by the budget.
+ */
+final class SketchGenerator implements InputGenerator {
+
+    private static final String JUNK = "......|-LJ7F";
+
+    @Override
+    public void write(Writer out, long targetBytes, SplittableRandom random) throws IOException {
+
+        var width = (int) Math.min(1024, Math.max(16, Math.sqrt(targetBytes)));
+        var height = Math.max(6, targetBytes / (width + 1));
+        var bottom = height - 2;
+
+        // Each tooth occupies columns x - 1 and x and rises from the bottom edge up to row bottom - depth.
+        List<long[]> teeth = new ArrayList<>();
+
+        for (var x = width - 3; x - 1 >= 2; ) {
+            if (random.nextBoolean()) {
+                teeth.add(new long[] { x, random.nextLong(1, bottom - 1) });
+                x -= 2 + random.nextInt(3);
+            } else {
+                x--;
+            }
+        }
+
+        var row = new char[width + 1];
+        row[width] = '\n';
+
+        for (var y = 0L; y < height; y++) {
+
+            for (var x = 0; x < width; x++) {
+                var border = y == 0 || y == height - 1 || x == 0 || x == width - 1;
+                row[x] = border ? '.' : JUNK.charAt(random.nextInt(JUNK.length()));
+            }
+
+            if (y == 1) {
+                row[1] = 'S';
+                for (var x = 2; x < width - 2; x++) {
+                    row[x] = '-';
+                }
+                row[width - 2] = '7';
+            } else if (y > 1 && y < bottom) {
+                row[1] = '|';
+                row[width - 2] = '|';
+                for (var tooth : teeth) {
+                    var x = (int) tooth[0];
+                    var top = bottom - tooth[1];
+                    if (y == top) {
+                        row[x - 1] = 'F';
+                        row[x] = '7';
+                    } else if (y > top) {
+                        row[x - 1] = '|';
+                        row[x] = '|';
+                    }
+                }
+            } else if (y == bottom) {
+                row[1] = 'L';
+                for (var x = 2; x < width - 2; x++) {
+                    row[x] = '-';
+                }
+                row[width - 2] = 'J';
+                for (var tooth : teeth) {
+                    var x = (int) tooth[0];
+                    row[x - 1] = 'J';
+                    row[x] = 'L';
+                }
+            }
+
+            out.write(row);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.flameshine.advent.solver;
+
+/**
+ * Cost of a single phase of a run.
+ *
+ * CPU time and allocated bytes are those of the thread that ran the phase, so work a solver hands to other threads is not included.
+ * Peak heap is the sum of the peak usage of all heap pools while the phase ran, across the whole JVM;
+ * it is only known when phases run one at a time.
+ * A metric the JVM cannot measure for the phase is {@link #UNAVAILABLE}; the per-thread counters, for one, are not
+ * supported on virtual threads.
+ */
+public record PhaseMetrics(
+    String phase,
+    long wallNanos,
+    long cpuNanos,
+    long allocatedBytes,
+    long peakHeapBytes
+) {
+
+    public static final long UNAVAILABLE = -1;
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.flameshine.advent.solver;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+import java.util.function.Supplier;
+
+final class PhaseRecorder {
+
+    private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static final List<MemoryPoolMXBean> HEAP_POOLS = ManagementFactory.getMemoryPoolMXBeans().stream()
+        .filter(pool -> pool.getType() == MemoryType.HEAP)
+        .toList();
+
+    private PhaseRecorder() {}
+
+    static <T> Measured<T> measure(String phase, Supplier<T> action) {
+        resetPeakHeap();
+        var measured = measureConcurrently(phase, action);
+        var metrics = measured.metrics();
+        return new Measured<>(
+            measured.result(),
+            new PhaseMetrics(phase, metrics.wallNanos(), metrics.cpuNanos(), metrics.allocatedBytes(), peakHeapBytes())
+        );
+    }
+
+    /**
+     * Measures a phase that may overlap with others. The heap pools are shared by the whole JVM, so a peak taken here
+     * would include every other running phase (and resetting it would spoil theirs); it is left unavailable.
+     */
+    static <T> Measured<T> measureConcurrently(String phase, Supplier<T> action) {
+
+        // Both thread counters report -1 on a virtual thread, which would make every difference a misleading 0.
+        var threadCounters = !Thread.currentThread().isVirtual();
+        var cpuStart = THREADS.getCurrentThreadCpuTime();
+        var allocatedStart = THREADS.getCurrentThreadAllocatedBytes();
+        var wallStart = System.nanoTime();
+
+        var result = action.get();
+
+        var wall = System.nanoTime() - wallStart;
+        var cpu = threadCounters ? THREADS.getCurrentThreadCpuTime() - cpuStart : PhaseMetrics.UNAVAILABLE;
+        var allocated = threadCounters ? THREADS.getCurrentThreadAllocatedBytes() - allocatedStart : PhaseMetrics.UNAVAILABLE;
+
+        return new Measured<>(result, new PhaseMetrics(phase, wall, cpu, allocated, PhaseMetrics.UNAVAILABLE));
+    }
+
+    static void resetPeakHeap() {
+        HEAP_POOLS.forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    /**
+     * Sum of the peak usage of all heap pools since the last {@link #resetPeakHeap()}.
+     */
+    static long peakHeapBytes() {
+        return HEAP_POOLS.stream()
+            .mapToLong(pool -> pool.getPeakUsage().getUsed())
+            .sum();
+    }
+
+    record Measured<T>(T result, PhaseMetrics metrics) {}
+}
\ No newline at end of file
@@ -0,0 +1,75 @@
+package com.flameshine.advent.solver;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Answers of a single run of a solver together with the cost of each of its phases (read, parse, part1, part2).
+ */
+public record RunReport(
+    String day,
+    Object part1,
+    Object part2,
+    List<PhaseMetrics> phases
+) {
+
+    public long totalWallNanos() {
+        return phases.stream().mapToLong(PhaseMetrics::wallNanos).sum();
+    }
+
+    public String toText() {
+
+        var builder = new StringBuilder()
+            .append(String.format(Locale.ROOT, "%-8s %12s %12s %16s %16s%n", day, "wall ms", "cpu ms", "allocated B", "peak heap B"));
+
+        for (var phase : phases) {
+            builder.append(String.format(
+                Locale.ROOT,
+                "%-8s %12.3f %12s %16s %16s%n",
+                phase.phase(),
+                phase.wallNanos() / 1e6,
+                toText(phase.cpuNanos(), String.format(Locale.ROOT, "%.3f", phase.cpuNanos() / 1e6)),
+                toText(phase.allocatedBytes(), String.valueOf(phase.allocatedBytes())),
+                toText(phase.peakHeapBytes(), String.valueOf(phase.peakHeapBytes()))
+            ));
+        }
+
+        return builder.toString();
+    }
+
+    public String toJson() {
+
+        var phasesJson = phases.stream()
+            .map(phase -> String.format(
+                Locale.ROOT,
+                "{\"phase\":%s,\"wallNanos\":%d,\"cpuNanos\":%s,\"allocatedBytes\":%s,\"peakHeapBytes\":%s}",
+                quote(phase.phase()),
+                phase.wallNanos(),
+                toJson(phase.cpuNanos()),
+                toJson(phase.allocatedBytes()),
+                toJson(phase.peakHeapBytes())
+            ))
+            .collect(Collectors.joining(",", "[", "]"));
+
+        return String.format(
+            "{\"day\":%s,\"part1\":%s,\"part2\":%s,\"phases\":%s}",
+            quote(day),
+            quote(String.valueOf(part1)),
+            quote(String.valueOf(part2)),
+            phasesJson
+        );
+    }
+
+    private static String toText(long metric, String formatted) {
+        return metric == PhaseMetrics.UNAVAILABLE ? "n/a" : formatted;
+    }
+
+    private static String toJson(long metric) {
+        return metric == PhaseMetrics.UNAVAILABLE ? "null" : String.valueOf(metric);
+    }
+
+    private static String quote(String s) {
+        return '"' + s.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+}
\ No newline at end of file
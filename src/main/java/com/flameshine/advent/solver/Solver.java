@@ -0,0 +1,23 @@
+package com.flameshine.advent.solver;
+
+import com.flameshine.advent.util.InputSource;
+
+/**
+ * A puzzle split into explicit phases: the input is parsed once, and the parsed model is then shared by both parts.
+ * Neither part may modify the parsed model, so parts can be run in any order, repeatedly or concurrently.
+ *
+ * @param <I> the parsed model of the puzzle input
+ */
+public interface Solver<I> {
+
+    /**
+     * The puzzle input bundled with the solver.
+     */
+    InputSource input();
+
+    I parse(InputSource source);
+
+    Object part1(I input);
+
+    Object part2(I input);
+}
\ No newline at end of file
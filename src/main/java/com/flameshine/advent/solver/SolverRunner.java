@@ -0,0 +1,61 @@
+package com.flameshine.advent.solver;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import com.flameshine.advent.util.InputSource;
+
+public final class SolverRunner {
+
+    /**
+     * Set to "text" or "json" to print a per-phase cost report after the answers.
+     */
+    public static final String REPORT_PROPERTY = "advent.report";
+
+    private SolverRunner() {}
+
+    /**
+     * Parses the bundled input, or the file given as the first argument, once and prints the answers to both parts.
+     */
+    public static <I> void run(Solver<I> solver, String... args) {
+
+        var source = args.length > 0 ? InputSource.ofPath(Path.of(args[0])) : solver.input();
+        var format = System.getProperty(REPORT_PROPERTY);
+
+        if (format == null) {
+            var input = solver.parse(source);
+            System.out.println(solver.part1(input));
+            System.out.println(solver.part2(input));
+            return;
+        }
+
+        var report = measure(solver, source);
+
+        System.out.println(report.part1());
+        System.out.println(report.part2());
+
+        switch (format) {
+            case "text" -> System.out.print(report.toText());
+            case "json" -> System.out.println(report.toJson());
+            default -> throw new IllegalArgumentException("Unknown report format: " + format);
+        }
+    }
+
+    /**
+     * Runs the solver phase by phase, reading the whole input up front so that parsing is measured without I/O.
+     */
+    public static <I> RunReport measure(Solver<I> solver, InputSource source) {
+
+        var read = PhaseRecorder.measure("read", source::load);
+        var parse = PhaseRecorder.measure("parse", () -> solver.parse(read.result()));
+        var part1 = PhaseRecorder.measure("part1", () -> solver.part1(parse.result()));
+        var part2 = PhaseRecorder.measure("part2", () -> solver.part2(parse.result()));
+
+        return new RunReport(
+            solver.getClass().getSimpleName(),
+            part1.result(),
+            part2.result(),
+            List.of(read.metrics(), parse.metrics(), part1.metrics(), part2.metrics())
+        );
+    }
+}
\ No newline at end of file
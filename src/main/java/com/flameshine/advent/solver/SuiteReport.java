@@ -0,0 +1,49 @@
+package com.flameshine.advent.solver;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Reports of all days run together, with the wall time of the whole suite and its heap peak.
+ * The peak covers the JVM from the start of the suite to its end, because concurrent phases share the heap.
+ */
+public record SuiteReport(
+    List<RunReport> days,
+    long wallNanos,
+    long peakHeapBytes
+) {
+
+    public String toText() {
+
+        var builder = new StringBuilder();
+
+        for (var report : days) {
+            builder.append(String.format(Locale.ROOT, "%s: %s, %s%n", report.day(), report.part1(), report.part2()))
+                .append(report.toText())
+                .append(System.lineSeparator());
+        }
+
+        var sumOfDays = days.stream().mapToLong(RunReport::totalWallNanos).sum();
+
+        return builder
+            .append(String.format(
+                Locale.ROOT,
+                "Suite: %.3f ms (days add up to %.3f ms), peak heap %d B%n",
+                wallNanos / 1e6,
+                sumOfDays / 1e6,
+                peakHeapBytes
+            ))
+            .toString();
+    }
+
+    public String toJson() {
+        return String.format(
+            Locale.ROOT,
+            "{\"wallNanos\":%d,\"peakHeapBytes\":%d,\"days\":%s}",
+            wallNanos,
+            peakHeapBytes,
+            days.stream().map(RunReport::toJson).collect(Collectors.joining(",", "[", "]"))
+        );
+    }
+}
\ No newline at end of file
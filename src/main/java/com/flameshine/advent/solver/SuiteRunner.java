@@ -0,0 +1,71 @@
+package com.flameshine.advent.solver;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs many solvers at once: inputs are read on virtual threads, while parsing and both parts run on a pool bounded by
+ * the number of cores. Both parts of a day start as soon as its input is parsed, so the suite takes about as long as its slowest day.
+ *
+ * Since phases overlap, heap usage cannot be told apart per phase; the report carries a single peak for the whole suite instead.
+ */
+public final class SuiteRunner {
+
+    private SuiteRunner() {}
+
+    public static void runAndPrint(List<Solver<?>> solvers) {
+
+        var report = run(solvers);
+
+        if ("json".equals(System.getProperty(SolverRunner.REPORT_PROPERTY))) {
+            System.out.println(report.toJson());
+        } else {
+            System.out.print(report.toText());
+        }
+    }
+
+    public static SuiteReport run(List<Solver<?>> solvers) {
+
+        PhaseRecorder.resetPeakHeap();
+
+        var start = System.nanoTime();
+        var days = runDays(solvers);
+        var wallNanos = System.nanoTime() - start;
+
+        return new SuiteReport(days, wallNanos, PhaseRecorder.peakHeapBytes());
+    }
+
+    private static List<RunReport> runDays(List<Solver<?>> solvers) {
+
+        try (
+            var io = Executors.newVirtualThreadPerTaskExecutor();
+            var cpu = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors())
+        ) {
+
+            var futures = solvers.stream()
+                .map(solver -> schedule(solver, io, cpu))
+                .toList();
+
+            return futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+        }
+    }
+
+    private static <I> CompletableFuture<RunReport> schedule(Solver<I> solver, Executor io, Executor cpu) {
+
+        var read = CompletableFuture.supplyAsync(() -> PhaseRecorder.measureConcurrently("read", () -> solver.input().load()), io);
+        var parse = read.thenApplyAsync(r -> PhaseRecorder.measureConcurrently("parse", () -> solver.parse(r.result())), cpu);
+        var part1 = parse.thenApplyAsync(p -> PhaseRecorder.measureConcurrently("part1", () -> solver.part1(p.result())), cpu);
+        var part2 = parse.thenApplyAsync(p -> PhaseRecorder.measureConcurrently("part2", () -> solver.part2(p.result())), cpu);
+
+        return part1.thenCombine(part2, (p1, p2) -> new RunReport(
+            solver.getClass().getSimpleName(),
+            p1.result(),
+            p2.result(),
+            List.of(read.join().metrics(), parse.join().metrics(), p1.metrics(), p2.metrics())
+        ));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.flameshine.advent.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * A zero-copy view of a single line inside a {@link ByteBuffer}, read as single-byte characters.
+ *
+ * Readers re-point one instance at every line they visit, so a line is only valid inside the callback that received it;
+ * use {@link #toString()} to keep a copy.
+ */
+public final class ByteLine implements CharSequence {
+
+    private ByteBuffer buffer;
+    private int offset;
+    private int length;
+
+    public ByteLine() {}
+
+    public ByteLine(ByteBuffer buffer, int offset, int length) {
+        set(buffer, offset, length);
+    }
+
+    public ByteLine set(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    public byte byteAt(int index) {
+        Preconditions.checkElementIndex(index, length);
+        return buffer.get(offset + index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (byteAt(index) & 0xFF);
+    }
+
+    @Override
+    public ByteLine subSequence(int start, int end) {
+        Preconditions.checkPositionIndexes(start, end, length);
+        return new ByteLine(buffer, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        var bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
\ No newline at end of file
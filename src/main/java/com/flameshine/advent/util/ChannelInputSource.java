@@ -0,0 +1,76 @@
+package com.flameshine.advent.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Streams a URL that is not a plain file (typically a jar entry) through a reusable buffer.
+ * The buffer doubles whenever a single line does not fit into it.
+ */
+record ChannelInputSource(URL url) implements InputSource {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    @Override
+    public void forEachBlock(Consumer<ByteBuffer> action) {
+
+        try (var channel = Channels.newChannel(openStream())) {
+
+            var buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+            while (true) {
+
+                var endOfStream = channel.read(buffer) == -1;
+
+                if (!endOfStream && buffer.hasRemaining()) {
+                    continue;
+                }
+
+                var filled = buffer.position();
+
+                if (endOfStream) {
+                    if (filled > 0) {
+                        action.accept(buffer.slice(0, filled));
+                    }
+                    return;
+                }
+
+                var blockSize = MappedLineReader.lastIndexOf(buffer, (byte) '\n', filled) + 1;
+
+                if (blockSize == 0) {
+                    buffer = ByteBuffer.allocate(buffer.capacity() * 2).put(buffer.flip());
+                    continue;
+                }
+
+                action.accept(buffer.slice(0, blockSize));
+
+                buffer.limit(filled).position(blockSize);
+                buffer.compact();
+            }
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public InputStream openStream() {
+        try {
+            return url.openStream();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Optional<Path> path() {
+        return Optional.empty();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.flameshine.advent.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Finds the first and the last numeric digit ('1'..'9') of every line in a block of bytes.
+ *
+ * Blocks are expected to contain whole lines only, as handed out by {@link InputSource#forEachBlock}.
+ */
+public interface DigitPairScanner {
+
+    String VECTOR_MODULE = "jdk.incubator.vector";
+
+    /**
+     * Reports every line of the block in order; all offsets are absolute indexes into the block.
+     */
+    void scan(ByteBuffer block, LineDigits action);
+
+    /**
+     * Returns the SIMD implementation when the incubating Vector API was added to the boot layer
+     * (--add-modules jdk.incubator.vector), and the scalar one otherwise.
+     */
+    static DigitPairScanner best() {
+        return ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent() ? new VectorDigitPairScanner() : scalar();
+    }
+
+    static DigitPairScanner scalar() {
+        return new ScalarDigitPairScanner();
+    }
+
+    @FunctionalInterface
+    interface LineDigits {
+
+        /**
+         * The line spans [lineStart, lineEnd) without its '\n'; both digit offsets are -1 when the line has no digit.
+         */
+        void accept(int lineStart, int lineEnd, int firstDigit, int lastDigit);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.flameshine.advent.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+final class HeapInputSource implements InputSource {
+
+    private final byte[] bytes;
+
+    HeapInputSource(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    @Override
+    public void forEachBlock(Consumer<ByteBuffer> action) {
+        action.accept(ByteBuffer.wrap(bytes).asReadOnlyBuffer());
+    }
+
+    @Override
+    public InputStream openStream() {
+        return new ByteArrayInputStream(bytes);
+    }
+
+    @Override
+    public Optional<Path> path() {
+        return Optional.empty();
+    }
+
+    @Override
+    public InputSource load() {
+        return this;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.flameshine.advent.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import com.google.common.base.Preconditions;
+import com.google.common.io.CountingInputStream;
+
+import com.flameshine.advent.events.LinesParsedEvent;
+
+/**
+ * Puzzle input that can be read either from a plain file, which is memory-mapped, or from any other URL,
+ * such as a jar entry, which is streamed through a buffered channel. Nothing is ever extracted to disk.
+ */
+public interface InputSource {
+
+    static InputSource ofResource(Class<?> anchor, String name) {
+        var url = anchor.getResource(name);
+        Preconditions.checkState(url != null, "Unable to find resource: %s", name);
+        return of(url);
+    }
+
+    static InputSource of(URL url) {
+
+        if (!"file".equals(url.getProtocol())) {
+            return new ChannelInputSource(url);
+        }
+
+        try {
+            return ofPath(Path.of(url.toURI()));
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Unable to resolve file from URL: " + url, e);
+        }
+    }
+
+    static InputSource ofPath(Path path) {
+        return new MappedInputSource(path);
+    }
+
+    /**
+     * Passes the whole input on in blocks that only contain complete lines.
+     * A block is only valid inside the callback that received it.
+     */
+    void forEachBlock(Consumer<ByteBuffer> action);
+
+    InputStream openStream();
+
+    /**
+     * The file behind this source, if there is one; required for random access such as chunked parallel reads.
+     */
+    Optional<Path> path();
+
+    /**
+     * Reads the whole input once, so that whatever reads it next does not pay for I/O; returns a source for the loaded data.
+     * Streamed sources are copied to the heap and therefore limited to 2 GB, mapped files stay mapped and only have their pages loaded.
+     */
+    default InputSource load() {
+        try (var stream = openStream()) {
+            return new HeapInputSource(stream.readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    default void forEachLine(Consumer<ByteLine> action) {
+        forEachBlock(block -> MappedLineReader.forEachLine(block, action));
+    }
+
+    default List<String> readAllLines() {
+
+        var event = new LinesParsedEvent();
+        event.begin();
+
+        try (
+            var stream = new CountingInputStream(openStream());
+            var reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))
+        ) {
+            var lines = reader.lines().toList();
+            event.commit(stream.getCount(), lines.size());
+            return lines;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
\ No newline at end of file
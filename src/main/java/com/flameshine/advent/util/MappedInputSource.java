@@ -0,0 +1,39 @@
+package com.flameshine.advent.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+record MappedInputSource(Path file) implements InputSource {
+
+    @Override
+    public void forEachBlock(Consumer<ByteBuffer> action) {
+        MappedLineReader.forEachBlock(file, action);
+    }
+
+    @Override
+    public InputSource load() {
+        MappedLineReader.forEachBlock(file, block -> ((MappedByteBuffer) block).load());
+        return this;
+    }
+
+    @Override
+    public InputStream openStream() {
+        try {
+            return Files.newInputStream(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Optional<Path> path() {
+        return Optional.of(file);
+    }
+}
\ No newline at end of file
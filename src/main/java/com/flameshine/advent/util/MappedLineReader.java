@@ -0,0 +1,118 @@
+package com.flameshine.advent.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+import com.google.common.base.Preconditions;
+
+import com.flameshine.advent.events.LinesParsedEvent;
+
+/**
+ * Walks the lines of a file through read-only memory mappings, handing out {@link ByteLine} views instead of decoded strings.
+ *
+ * A single mapping cannot exceed 2 GB, so larger files are mapped window by window; every window ends on a line boundary.
+ */
+public final class MappedLineReader {
+
+    private static final long WINDOW_SIZE = 1L << 30;
+
+    private MappedLineReader() {}
+
+    public static void forEachLine(Path path, long start, long end, Consumer<ByteLine> action) {
+        forEachBlock(path, start, end, block -> forEachLine(block, action));
+    }
+
+    public static void forEachBlock(Path path, Consumer<ByteBuffer> action) {
+        forEachBlock(path, 0, size(path), action);
+    }
+
+    /**
+     * Maps the byte range [start, end) of the file and passes it on in blocks that only contain whole lines.
+     * The range itself is expected to start at the beginning of a line.
+     */
+    public static void forEachBlock(Path path, long start, long end, Consumer<ByteBuffer> action) {
+
+        Preconditions.checkArgument(start >= 0 && start <= end);
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+
+            var position = start;
+
+            while (position < end) {
+
+                var windowSize = Math.min(WINDOW_SIZE, end - position);
+                var window = channel.map(FileChannel.MapMode.READ_ONLY, position, windowSize);
+                var blockSize = (int) windowSize;
+
+                if (position + windowSize < end) {
+                    blockSize = lastIndexOf(window, (byte) '\n', blockSize) + 1;
+                    Preconditions.checkState(blockSize > 0, "Line starting at offset %s does not fit into a single mapping", position);
+                }
+
+                action.accept(window.slice(0, blockSize));
+
+                position += blockSize;
+            }
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Splits a block into lines terminated by '\n' (a trailing '\r' is dropped); the last line may be unterminated.
+     */
+    public static void forEachLine(ByteBuffer block, Consumer<ByteLine> action) {
+
+        var event = new LinesParsedEvent();
+        event.begin();
+
+        var line = new ByteLine();
+        var limit = block.limit();
+        var lineStart = 0;
+        var lines = 0L;
+
+        for (var i = 0; i < limit; i++) {
+            if (block.get(i) == '\n') {
+                action.accept(line.set(block, lineStart, lineLength(block, lineStart, i)));
+                lineStart = i + 1;
+                lines++;
+            }
+        }
+
+        if (lineStart < limit) {
+            action.accept(line.set(block, lineStart, lineLength(block, lineStart, limit)));
+            lines++;
+        }
+
+        event.commit(limit, lines);
+    }
+
+    public static long size(Path path) {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int lineLength(ByteBuffer block, int lineStart, int lineEnd) {
+        return lineEnd > lineStart && block.get(lineEnd - 1) == '\r' ? lineEnd - lineStart - 1 : lineEnd - lineStart;
+    }
+
+    static int lastIndexOf(ByteBuffer buffer, byte b, int limit) {
+
+        for (var i = limit - 1; i >= 0; i--) {
+            if (buffer.get(i) == b) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+package com.flameshine.advent.util;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Reads the numbers embedded in a character sequence one after another, skipping everything in between.
+ * A '-' directly in front of a digit is read as a sign.
+ *
+ * A cursor can be reset to a new sequence, so a single instance is enough for a whole parse loop.
+ */
+public final class NumberCursor {
+
+    private CharSequence s;
+    private int position;
+    private int end;
+
+    public NumberCursor() {
+        this("");
+    }
+
+    public NumberCursor(CharSequence s) {
+        reset(s);
+    }
+
+    public NumberCursor reset(CharSequence s) {
+        return reset(s, 0, s.length());
+    }
+
+    public NumberCursor reset(CharSequence s, int from, int to) {
+        Preconditions.checkPositionIndexes(from, to, s.length());
+        this.s = s;
+        this.position = from;
+        this.end = to;
+        return this;
+    }
+
+    public int position() {
+        return position;
+    }
+
+    /**
+     * Moves the cursor right behind the next occurrence of c, or to the end if there is none.
+     */
+    public NumberCursor skipPast(char c) {
+
+        while (position < end && s.charAt(position) != c) {
+            position++;
+        }
+
+        position = Math.min(position + 1, end);
+
+        return this;
+    }
+
+    public boolean hasNext() {
+        skipSeparators();
+        return position < end;
+    }
+
+    public int nextInt() {
+        var start = nextNumberStart();
+        return ParsingUtils.parseInt(s, start, position);
+    }
+
+    public long nextLong() {
+        var start = nextNumberStart();
+        return ParsingUtils.parseLong(s, start, position);
+    }
+
+    private int nextNumberStart() {
+
+        Preconditions.checkState(hasNext(), "No number left after position %s", position);
+
+        var start = position;
+
+        if (s.charAt(position) == '-') {
+            position++;
+        }
+
+        while (position < end && ParsingUtils.isDigit(s.charAt(position))) {
+            position++;
+        }
+
+        return start;
+    }
+
+    private void skipSeparators() {
+        while (position < end && !isNumberStart(position)) {
+            position++;
+        }
+    }
+
+    private boolean isNumberStart(int index) {
+        var c = s.charAt(index);
+        return ParsingUtils.isDigit(c) || c == '-' && index + 1 < end && ParsingUtils.isDigit(s.charAt(index + 1));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,170 @@
+package com.flameshine.advent.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Collector;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Reduces the lines of a single file on several cores.
+ * The file is cut into byte ranges that start and end on line boundaries, every range is folded into its own accumulator
+ * on a fork-join pool, and the partial results are merged in file order.
+ *
+ * The collector only has to be associative; lines are handed out as reused {@link ByteLine} views, so it must not keep them.
+ */
+public final class ParallelLineReader {
+
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final int PROBE_SIZE = 4096;
+
+    private ParallelLineReader() {}
+
+    public static <A, R> R collect(InputSource source, Collector<ByteLine, A, R> collector) {
+        return source.path()
+            .map(path -> collect(path, collector))
+            .orElseGet(() -> collectSequentially(source, collector));
+    }
+
+    public static <A, R> R collect(Path path, Collector<ByteLine, A, R> collector) {
+        var pool = ForkJoinPool.commonPool();
+        return collect(path, pool.getParallelism() * CHUNKS_PER_THREAD, pool, collector);
+    }
+
+    public static <A, R> R collect(Path path, int chunkCount, ForkJoinPool pool, Collector<ByteLine, A, R> collector) {
+        var chunks = split(path, chunkCount);
+        var accumulated = pool.invoke(new ChunkTask<>(path, chunks, 0, chunks.size(), collector));
+        return collector.finisher().apply(accumulated);
+    }
+
+    /**
+     * Cuts the file into at most chunkCount non-empty ranges, moving every cut forward to the start of the next line.
+     */
+    public static List<Chunk> split(Path path, int chunkCount) {
+
+        Preconditions.checkArgument(chunkCount > 0);
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+
+            var size = channel.size();
+            var probe = ByteBuffer.allocate(PROBE_SIZE);
+
+            List<Chunk> resultBuilder = new ArrayList<>(chunkCount);
+
+            var start = 0L;
+
+            for (var i = 1; i <= chunkCount && start < size; i++) {
+                var end = i == chunkCount ? size : alignToLineStart(channel, probe, Math.max(start, size / chunkCount * i), size);
+                if (end > start) {
+                    resultBuilder.add(new Chunk(start, end));
+                    start = end;
+                }
+            }
+
+            return Collections.unmodifiableList(resultBuilder);
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <A, R> R collectSequentially(InputSource source, Collector<ByteLine, A, R> collector) {
+        var container = collector.supplier().get();
+        var accumulator = collector.accumulator();
+        source.forEachLine(line -> accumulator.accept(container, line));
+        return collector.finisher().apply(container);
+    }
+
+    private static long alignToLineStart(FileChannel channel, ByteBuffer probe, long position, long size) throws IOException {
+
+        if (position == 0) {
+            return 0;
+        }
+
+        var current = position - 1;
+
+        while (current < size) {
+
+            probe.clear();
+
+            var read = channel.read(probe, current);
+
+            if (read <= 0) {
+                break;
+            }
+
+            for (var i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return current + i + 1;
+                }
+            }
+
+            current += read;
+        }
+
+        return size;
+    }
+
+    public record Chunk(long start, long end) {}
+
+    private static final class ChunkTask<A> extends RecursiveTask<A> {
+
+        private final Path path;
+        private final List<Chunk> chunks;
+        private final int from;
+        private final int to;
+        private final Collector<ByteLine, A, ?> collector;
+
+        private ChunkTask(Path path, List<Chunk> chunks, int from, int to, Collector<ByteLine, A, ?> collector) {
+            this.path = path;
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+            this.collector = collector;
+        }
+
+        @Override
+        protected A compute() {
+
+            if (to - from <= 1) {
+                return accumulateChunk();
+            }
+
+            var middle = (from + to) >>> 1;
+            var left = new ChunkTask<>(path, chunks, from, middle, collector);
+            var right = new ChunkTask<>(path, chunks, middle, to, collector);
+
+            left.fork();
+
+            var rightResult = right.compute();
+            var leftResult = left.join();
+
+            return collector.combiner().apply(leftResult, rightResult);
+        }
+
+        private A accumulateChunk() {
+
+            var container = collector.supplier().get();
+
+            if (from == to) {
+                return container;
+            }
+
+            var chunk = chunks.get(from);
+            var accumulator = collector.accumulator();
+
+            MappedLineReader.forEachLine(path, chunk.start(), chunk.end(), line -> accumulator.accept(container, line));
+
+            return container;
+        }
+    }
+}
\ No newline at end of file
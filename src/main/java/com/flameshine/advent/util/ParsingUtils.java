@@ -19,4 +19,56 @@ public final class ParsingUtils {
             throw new IllegalStateException("Unable to parse long from input string: " + s, e);
         }
     }
+
+    public static int parseInt(CharSequence s, int from, int to) {
+
+        var result = parseLong(s, from, to);
+
+        if ((int) result != result) {
+            throw new IllegalStateException("Unable to parse integer from input range: " + s.subSequence(from, to));
+        }
+
+        return (int) result;
+    }
+
+    /**
+     * Parses an optionally signed decimal number from s[from, to) without creating any intermediate objects.
+     * Digits are accumulated as a negative value, the same way {@link Long#parseLong(String)} does, so that Long.MIN_VALUE is accepted.
+     */
+    public static long parseLong(CharSequence s, int from, int to) {
+
+        var negative = from < to && s.charAt(from) == '-';
+        var i = negative ? from + 1 : from;
+
+        if (i >= to) {
+            throw new IllegalStateException("Unable to parse long from input range: " + s.subSequence(from, to));
+        }
+
+        var limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        var multiplicationLimit = limit / 10;
+        var result = 0L;
+
+        for (; i < to; i++) {
+
+            var digit = s.charAt(i) - '0';
+
+            if (digit < 0 || digit > 9 || result < multiplicationLimit) {
+                throw new IllegalStateException("Unable to parse long from input range: " + s.subSequence(from, to));
+            }
+
+            result *= 10;
+
+            if (result < limit + digit) {
+                throw new IllegalStateException("Unable to parse long from input range: " + s.subSequence(from, to));
+            }
+
+            result -= digit;
+        }
+
+        return negative ? result : -result;
+    }
+
+    public static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
 }
\ No newline at end of file
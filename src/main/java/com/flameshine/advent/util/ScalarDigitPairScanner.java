@@ -0,0 +1,45 @@
+package com.flameshine.advent.util;
+
+import java.nio.ByteBuffer;
+
+import com.flameshine.advent.events.LinesParsedEvent;
+
+final class ScalarDigitPairScanner implements DigitPairScanner {
+
+    @Override
+    public void scan(ByteBuffer block, LineDigits action) {
+
+        var event = new LinesParsedEvent();
+        event.begin();
+
+        var lines = 0L;
+        var lineStart = block.position();
+        var firstDigit = -1;
+        var lastDigit = -1;
+
+        for (var i = block.position(); i < block.limit(); i++) {
+
+            var b = block.get(i);
+
+            if (b == '\n') {
+                action.accept(lineStart, i, firstDigit, lastDigit);
+                lines++;
+                lineStart = i + 1;
+                firstDigit = -1;
+                lastDigit = -1;
+            } else if (b >= '1' && b <= '9') {
+                if (firstDigit < 0) {
+                    firstDigit = i;
+                }
+                lastDigit = i;
+            }
+        }
+
+        if (lineStart < block.limit()) {
+            action.accept(lineStart, block.limit(), firstDigit, lastDigit);
+            lines++;
+        }
+
+        event.commit(block.remaining(), lines);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+package com.flameshine.advent.util;
+
+import java.nio.ByteBuffer;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import com.flameshine.advent.events.LinesParsedEvent;
+
+/**
+ * Compares a whole vector of bytes against '\n' and '1'..'9' at once, so runs of noise between digits and line breaks
+ * are skipped a vector at a time; only lanes that hit are visited one by one through the comparison bit masks.
+ *
+ * Only referenced through {@link DigitPairScanner#best()}, which makes sure the incubator module is present.
+ */
+final class VectorDigitPairScanner implements DigitPairScanner {
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED.length() <= Long.SIZE
+        ? ByteVector.SPECIES_PREFERRED
+        : ByteVector.SPECIES_512;
+
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    // Mapped blocks cannot be loaded into vectors directly without the foreign memory API, so they go through this array.
+    private final byte[] chunk = new byte[CHUNK_SIZE];
+
+    private LineDigits action;
+    private long lines;
+    private int lineStart;
+    private int firstDigit;
+    private int lastDigit;
+
+    @Override
+    public void scan(ByteBuffer block, LineDigits action) {
+
+        var event = new LinesParsedEvent();
+        event.begin();
+
+        this.action = action;
+        this.lines = 0;
+        this.lineStart = block.position();
+        this.firstDigit = -1;
+        this.lastDigit = -1;
+
+        for (var position = block.position(); position < block.limit(); position += CHUNK_SIZE) {
+            var length = Math.min(CHUNK_SIZE, block.limit() - position);
+            block.get(position, chunk, 0, length);
+            scanChunk(position, length);
+        }
+
+        if (lineStart < block.limit()) {
+            action.accept(lineStart, block.limit(), firstDigit, lastDigit);
+            lines++;
+        }
+
+        event.commit(block.remaining(), lines);
+
+        this.action = null;
+    }
+
+    private void scanChunk(int base, int length) {
+
+        var bound = SPECIES.loopBound(length);
+        var i = 0;
+
+        for (; i < bound; i += SPECIES.length()) {
+
+            var vector = ByteVector.fromArray(SPECIES, chunk, i);
+            var newlines = vector.eq((byte) '\n').toLong();
+            var digits = vector.compare(VectorOperators.GE, (byte) '1')
+                .and(vector.compare(VectorOperators.LE, (byte) '9'))
+                .toLong();
+
+            if (newlines == 0) {
+                if (digits != 0) {
+                    if (firstDigit < 0) {
+                        firstDigit = base + i + Long.numberOfTrailingZeros(digits);
+                    }
+                    lastDigit = base + i + Long.SIZE - 1 - Long.numberOfLeadingZeros(digits);
+                }
+                continue;
+            }
+
+            for (var hits = newlines | digits; hits != 0; hits &= hits - 1) {
+                var lane = i + Long.numberOfTrailingZeros(hits);
+                accept(base + lane, chunk[lane]);
+            }
+        }
+
+        for (; i < length; i++) {
+            accept(base + i, chunk[i]);
+        }
+    }
+
+    private void accept(int position, byte b) {
+        if (b == '\n') {
+            action.accept(lineStart, position, firstDigit, lastDigit);
+            lines++;
+            lineStart = position + 1;
+            firstDigit = -1;
+            lastDigit = -1;
+        } else if (b >= '1' && b <= '9') {
+            if (firstDigit < 0) {
+                firstDigit = position;
+            }
+            lastDigit = position;
+        }
+    }
+}
\ No newline at end of file